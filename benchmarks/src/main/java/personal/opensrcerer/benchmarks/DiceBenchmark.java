@@ -0,0 +1,50 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import personal.opensrcerer.engine.Dice;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the dice are rolled, both unseeded for the roll animation and from a game's seed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceBenchmark {
+
+    private final SplittableRandom seeded = new SplittableRandom(42);
+
+    @Benchmark
+    public int getRandomDice() {
+        return Dice.random();
+    }
+
+    @Benchmark
+    public int getSeededDice() {
+        return Dice.random(seeded);
+    }
+
+    /**
+     * The dice rolled for one whole roll animation and the final result.
+     * @return The sum of the dice, so that the work is not eliminated.
+     */
+    @Benchmark
+    public int getRandomDiceAnimation() {
+        int dice = 0;
+        for (int frame = 0; frame < 20; ++frame) {
+            dice += Dice.random();
+        }
+        return dice;
+    }
+}
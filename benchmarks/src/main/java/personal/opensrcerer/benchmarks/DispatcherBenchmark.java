@@ -0,0 +1,43 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import personal.opensrcerer.util.Mailbox;
+import personal.opensrcerer.util.RequestDispatcher;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures end to end throughput of requests through a Mailbox of the RequestDispatcher,
+ * from queueing a request until it has been run on a worker thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatcherBenchmark {
+
+    /**
+     * The mailbox that the requests are queued on, like the one of a game.
+     */
+    private final Mailbox mailbox = RequestDispatcher.newMailbox();
+
+    /**
+     * Queue an empty request and wait for the dispatcher to run it.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    @Benchmark
+    public void roundTrip() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        mailbox.offer(done::countDown);
+        done.await();
+    }
+}
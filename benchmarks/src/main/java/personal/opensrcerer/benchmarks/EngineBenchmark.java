@@ -0,0 +1,101 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import personal.opensrcerer.engine.Dice;
+import personal.opensrcerer.engine.GameEngine;
+import personal.opensrcerer.engine.PlayerState;
+import personal.opensrcerer.engine.PlayerStatus;
+import personal.opensrcerer.engine.RollOutcome;
+import personal.opensrcerer.engine.RoundRules;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the scoring path that used to live in Player.roll, and whole games on the GameEngine.
+ * Dice are taken from a pre-rolled table so that the random generator is not measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    /**
+     * The number of pre-rolled dice, must be a power of two.
+     */
+    private static final int DICE = 1 << 16;
+
+    /**
+     * The number of players at the table.
+     */
+    @Param({"1", "2", "4", "8", "64", "1024"})
+    public int players;
+
+    /**
+     * The number of rounds in every game.
+     */
+    @Param({"9"})
+    public int rounds;
+
+    /**
+     * Pre-rolled roll indexes.
+     */
+    private final int[] dice = new int[DICE];
+
+    /**
+     * The player used for single roll benchmarks.
+     */
+    private PlayerState player;
+
+    /**
+     * Index of the next pre-rolled dice.
+     */
+    private int next;
+
+    @Setup
+    public void setup() {
+        for (int index = 0; index < dice.length; ++index) {
+            dice[index] = Dice.random();
+        }
+        player = new PlayerState(0, "Player 1", true);
+    }
+
+    /**
+     * A single roll through the RoundRules, starting a new round whenever the old one finishes.
+     * @return The outcome, so that the work is not eliminated.
+     */
+    @Benchmark
+    public RollOutcome scoreRoll() {
+        if (player.getStatus() == PlayerStatus.FINISHED_ROUND) {
+            player.resetStatus(false);
+        }
+        return RoundRules.roll(player, dice[next++ & (DICE - 1)]);
+    }
+
+    /**
+     * A whole game on the GameEngine, including turn rotation.
+     * @return The final score of the first seat.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int playGame() {
+        PlayerState[] states = new PlayerState[players];
+        for (int seat = 0; seat < players; ++seat) {
+            states[seat] = new PlayerState(seat, "Player", true);
+        }
+
+        GameEngine engine = new GameEngine(states, rounds);
+        while (!engine.isFinished()) {
+            engine.roll(dice[next++ & (DICE - 1)]);
+        }
+        return states[0].getScore();
+    }
+}
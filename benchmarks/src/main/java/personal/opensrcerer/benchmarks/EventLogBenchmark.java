@@ -0,0 +1,107 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import personal.opensrcerer.engine.Dice;
+import personal.opensrcerer.engine.GameEngine;
+import personal.opensrcerer.engine.PlayerState;
+import personal.opensrcerer.engine.RollOutcome;
+import personal.opensrcerer.eventLog.EventLogWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast games can be appended to a memory-mapped event log.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventLogBenchmark {
+
+    /**
+     * The number of rolls in every game that appendGame writes.
+     */
+    private static final int ROLLS_PER_GAME = 64;
+
+    /**
+     * The number of players in every game.
+     */
+    @Param({"2", "8"})
+    public int players;
+
+    /**
+     * The log under test.
+     */
+    private EventLogWriter log;
+
+    /**
+     * Pre-rolled dice, so that the random number generator is not measured.
+     */
+    private final int[] dice = new int[1024];
+
+    /**
+     * The number of dice that have been used, wrapped around to index the pre-rolled dice.
+     */
+    private int next;
+
+    /**
+     * The final scores that appendGame writes, all zero.
+     */
+    private int[] scores;
+
+    @Setup
+    public void setup() throws IOException {
+        log = new EventLogWriter(Files.createTempDirectory("snake-eyes-log"));
+        for (int i = 0; i < dice.length; ++i) {
+            dice[i] = Dice.random();
+        }
+        scores = new int[players];
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        log.close();
+    }
+
+    /**
+     * Writes a game of a fixed number of rolls, so that every game is bounded and is mapped into the log.
+     * @return The size of the log, so that the work is not eliminated.
+     */
+    @Benchmark
+    public long appendGame() {
+        log.gameStart(players, 1, next);
+        for (int roll = 0; roll < ROLLS_PER_GAME; ++roll) {
+            log.roll(roll % players, dice[next++ & (dice.length - 1)], RollOutcome.NO_CHANGE);
+        }
+        log.gameEnd(scores);
+        return log.size();
+    }
+
+    /**
+     * Plays a full game that logs every event.
+     * @return The size of the log, so that the work is not eliminated.
+     */
+    @Benchmark
+    public long playLoggedGame() {
+        PlayerState[] states = new PlayerState[players];
+        for (int seat = 0; seat < players; ++seat) {
+            states[seat] = new PlayerState(seat, "Player " + (seat + 1), true);
+        }
+        GameEngine engine = new GameEngine(states, 9, next, log);
+        while (!engine.isFinished()) {
+            engine.roll(dice[next++ & (dice.length - 1)]);
+        }
+        return log.size();
+    }
+}
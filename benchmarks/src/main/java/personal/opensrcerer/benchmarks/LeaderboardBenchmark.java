@@ -0,0 +1,71 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import personal.opensrcerer.engine.Leaderboard;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Leaderboard operations that keep the standings of a table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+
+    /**
+     * The number of seats on the leaderboard.
+     */
+    @Param({"8", "64", "1024", "8000"})
+    public int size;
+
+    /**
+     * The leaderboard under test, with scores spread like those of a few rounds.
+     */
+    private Leaderboard standings;
+
+    /**
+     * Picks the seats and scores to change.
+     */
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        standings = new Leaderboard(size);
+        random = new SplittableRandom(size);
+        for (int seat = 0; seat < size; ++seat) {
+            standings.update(seat, random.nextInt(-15, 40));
+        }
+    }
+
+    /**
+     * Gives a seat a few points, like a roll that makes the point.
+     * @return The seat's rank, so that the work is not eliminated.
+     */
+    @Benchmark
+    public int update() {
+        int seat = random.nextInt(size);
+        standings.update(seat, standings.getScore(seat) + random.nextInt(-5, 10));
+        return standings.rank(seat);
+    }
+
+    @Benchmark
+    public int leader() {
+        return standings.leader();
+    }
+
+    @Benchmark
+    public int countTiedWithLeader() {
+        return standings.countWith(standings.getScore(standings.leader()));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import personal.opensrcerer.engine.GameEngine;
+import personal.opensrcerer.engine.GameSnapshot;
+import personal.opensrcerer.engine.PlayerState;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures taking a GameSnapshot after every roll, which keeps every version of the game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    /**
+     * The number of versions that are kept before the game is taken back to its first one,
+     * so that the history does not fill the heap.
+     */
+    private static final int HISTORY = 1 << 16;
+
+    /**
+     * The number of seats at the table.
+     */
+    @Param({"8", "64", "1024", "8000"})
+    public int size;
+
+    /**
+     * The game under test, which never runs out of rounds.
+     */
+    private GameEngine engine;
+
+    /**
+     * The first version of the game.
+     */
+    private GameSnapshot first;
+
+    @Setup
+    public void setup() {
+        PlayerState[] players = new PlayerState[size];
+        for (int seat = 0; seat < size; ++seat) {
+            players[seat] = new PlayerState(seat, "Bot " + (seat + 1), true);
+        }
+        engine = new GameEngine(players, Integer.MAX_VALUE, size);
+        first = engine.snapshot();
+    }
+
+    /**
+     * Rolls for the player on turn and takes the next version of the game.
+     * @return The new version, so that the work is not eliminated.
+     */
+    @Benchmark
+    public GameSnapshot rollAndSnapshot() {
+        engine.roll();
+        GameSnapshot version = engine.snapshot();
+        if (version.getVersion() == HISTORY) {
+            engine.restore(first);
+        }
+        return version;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import personal.opensrcerer.engine.TurnRing;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the TurnRing operations that the game passes turns with.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnRotationBenchmark {
+
+    /**
+     * The number of seats in the ring.
+     */
+    @Param({"1", "2", "4", "8", "64", "1024", "8000"})
+    public int size;
+
+    /**
+     * The ring under test, with the second half of the seats finished.
+     */
+    private TurnRing ring;
+
+    @Setup
+    public void setup() {
+        ring = new TurnRing(size);
+        for (int seat = size / 2; seat < size; ++seat) {
+            ring.markFinished(seat);
+        }
+    }
+
+    @Benchmark
+    public int ringFinishedCount() {
+        return ring.getFinishedCount();
+    }
+
+    @Benchmark
+    public boolean ringAdvance() {
+        return ring.advance();
+    }
+
+    /**
+     * Moves to the next seat, then back to the first seat.
+     * @return The current seat, so that the work is not eliminated.
+     */
+    @Benchmark
+    public int ringSetToFirst() {
+        ring.advance();
+        ring.setToFirst();
+        return ring.current();
+    }
+}
@@ -6,9 +6,23 @@
 
 package personal.opensrcerer;
 
+import personal.opensrcerer.eventLog.EventLogWriter;
+import personal.opensrcerer.eventLog.ReplayVerifier;
+import personal.opensrcerer.eventLog.VerificationResult;
+import personal.opensrcerer.metrics.MetricsServer;
+import personal.opensrcerer.simulation.MarkovCalculator;
+import personal.opensrcerer.simulation.MonteCarloSimulator;
+import personal.opensrcerer.simulation.ScoreDistribution;
+import personal.opensrcerer.simulation.SimulationResult;
+import personal.opensrcerer.tournament.Tournament;
+import personal.opensrcerer.tournament.TournamentFormat;
+import personal.opensrcerer.tournament.TournamentResult;
 import personal.opensrcerer.userInterface.MainWindow;
 
 import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * <h2>Snake Eyes Game</h2>
@@ -30,11 +44,42 @@ public class RunProject {
 
     /**
      * Start the program's execution.
+     * Use "--simulate [games] [players] [rounds] [seed]" to run a headless simulation instead of the GUI,
+     * "--exact [rounds]" to print the exact score distribution of a player,
+     * "--record directory [games] [players] [rounds] [seed]" to append simulated games to an event log,
+     * "--verify directory" to check an event log against the rules,
+     * "--tournament format [entrants] [rounds] [seed]" to play a round-robin, knockout or swiss tournament of bots,
+     * or "--metrics [port]" to serve the game's metrics on localhost while the GUI runs.
+     * Simulations that are given the same seed play the same games.
      * @param args Arguments taken in if the program was started from console.
      * @throws UnsupportedLookAndFeelException If neither of the look and feel
      * types are supported.
      */
     public static void main(String[] args) throws UnsupportedLookAndFeelException {
+        if (args.length > 0 && args[0].equals("--simulate")) {
+            simulate(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--exact")) {
+            exact(args);
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--record")) {
+            record(args);
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--verify")) {
+            verify(args);
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--tournament")) {
+            tournament(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--metrics")) {
+            serveMetrics(args); // Then start the GUI as usual
+        }
+
         // Try to set the UI look and feel to match the system
         setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         if (!lookAndFeelSuccessful)
@@ -48,6 +93,121 @@ public class RunProject {
         SwingUtilities.invokeLater(MainWindow::new);
     }
 
+    /**
+     * Runs a headless Monte Carlo simulation and prints its report.
+     * @param args Arguments taken in from console, after the "--simulate" flag.
+     */
+    private static void simulate(String[] args) {
+        long games = (args.length > 1) ? Long.parseLong(args[1]) : 1_000_000;
+        int players = (args.length > 2) ? Integer.parseInt(args[2]) : 8;
+        int rounds = (args.length > 3) ? Integer.parseInt(args[3]) : 9;
+        long seed = (args.length > 4) ? Long.parseLong(args[4]) : ThreadLocalRandom.current().nextLong();
+
+        long start = System.nanoTime();
+        SimulationResult result = MonteCarloSimulator.simulate(games, players, rounds, seed);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("Seed " + seed);
+        System.out.println(result.report());
+        System.out.printf("Simulated in %.3f s (%.0f games/s)%n", elapsed / 1e9, games / (elapsed / 1e9));
+    }
+
+    /**
+     * Runs a headless simulation on one thread, appending every game to an event log.
+     * @param args Arguments taken in from console, after the "--record" flag.
+     */
+    private static void record(String[] args) {
+        Path directory = Path.of(args[1]);
+        long games = (args.length > 2) ? Long.parseLong(args[2]) : 100_000;
+        int players = (args.length > 3) ? Integer.parseInt(args[3]) : 8;
+        int rounds = (args.length > 4) ? Integer.parseInt(args[4]) : 9;
+        long seed = (args.length > 5) ? Long.parseLong(args[5]) : ThreadLocalRandom.current().nextLong();
+
+        try (EventLogWriter log = new EventLogWriter(directory)) {
+            long start = System.nanoTime();
+            SimulationResult result = MonteCarloSimulator.record(log, games, players, rounds, seed);
+            long elapsed = System.nanoTime() - start;
+
+            System.out.println("Seed " + seed);
+            System.out.println(result.report());
+            System.out.printf("Recorded %d games in %.3f s to %s (%d bytes, %.1f bytes/game)%n",
+                    games, elapsed / 1e9, directory, log.size(), log.size() / (double) games);
+        } catch (IOException ex) {
+            System.out.println("Something went wrong! " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Checks every game of an event log against the rules and prints what was found.
+     * @param args Arguments taken in from console, after the "--verify" flag.
+     */
+    private static void verify(String[] args) {
+        try {
+            long start = System.nanoTime();
+            VerificationResult result = ReplayVerifier.verify(Path.of(args[1]));
+            long elapsed = System.nanoTime() - start;
+
+            System.out.println(result.report());
+            System.out.printf("Verified in %.3f s (%.0f games/s)%n", elapsed / 1e9, result.getGames() / (elapsed / 1e9));
+        } catch (IOException ex) {
+            System.out.println("Something went wrong! " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Plays a headless tournament of bots and prints the standings.
+     * @param args Arguments taken in from console, after the "--tournament" flag.
+     */
+    private static void tournament(String[] args) {
+        int entrants = (args.length > 2) ? Integer.parseInt(args[2]) : 1024;
+        int rounds = (args.length > 3) ? Integer.parseInt(args[3]) : 9;
+        long seed = (args.length > 4) ? Long.parseLong(args[4]) : ThreadLocalRandom.current().nextLong();
+
+        try {
+            TournamentFormat format = TournamentFormat.fromName(args[1]);
+            long start = System.nanoTime();
+            TournamentResult result = Tournament.play(format, entrants, rounds, seed);
+            long elapsed = System.nanoTime() - start;
+
+            System.out.println("Seed " + seed);
+            System.out.println(result.report());
+            System.out.printf("Played in %.3f s (%.0f games/s)%n", elapsed / 1e9, result.getGames() / (elapsed / 1e9));
+        } catch (IllegalArgumentException ex) {
+            System.out.println("Something went wrong! " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Serves the metrics of the game in the text exposition format. They are also always available over JMX.
+     * @param args Arguments taken in from console, after the "--metrics" flag.
+     */
+    private static void serveMetrics(String[] args) {
+        int port = (args.length > 1) ? Integer.parseInt(args[1]) : MetricsServer.DEFAULT_PORT;
+        try {
+            MetricsServer.start(port);
+            System.out.println("Serving metrics on http://localhost:" + MetricsServer.getPort() + "/metrics");
+        } catch (IOException ex) {
+            System.out.println("Something went wrong! Metrics cannot be served on port " + port + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Prints the exact score distribution of a player, as calculated by the MarkovCalculator.
+     * @param args Arguments taken in from console, after the "--exact" flag.
+     */
+    private static void exact(String[] args) {
+        int rounds = (args.length > 1) ? Integer.parseInt(args[1]) : 9;
+        ScoreDistribution distribution = MarkovCalculator.rounds(rounds);
+
+        System.out.printf("%d rounds // Expected score %.6f // Std. deviation %.6f // Expected rolls per round %.6f%n",
+                rounds, distribution.mean(), Math.sqrt(distribution.variance()), MarkovCalculator.expectedRollsPerRound());
+        for (int score = distribution.getMinScore(); score <= distribution.getMaxScore(); ++score) {
+            if (distribution.probability(score) >= 1e-6) {
+                System.out.printf("%6d  %10.6f%%%n", score, distribution.probability(score) * 100);
+            }
+        }
+    }
+
     /**
      * Set the look and feel of the system with error handling.
      * @param lfClassName Look and Feel Class Name
@@ -9,7 +9,16 @@ package personal.opensrcerer.actions;
 /**
  * This interface has the purpose of making it easy
  * for the processing queue to handle every action
- * taken. Currently used as a marker interface.
+ * taken.
  */
 public interface Request extends Runnable {
+
+    /**
+     * Requests with equal coalesce keys do the same work, so a Mailbox
+     * only needs to keep one of them queued.
+     * @return The coalesce key of this request, or null if it should never be coalesced.
+     */
+    default Object getCoalesceKey() {
+        return null;
+    }
 }
@@ -6,96 +6,200 @@
 
 package personal.opensrcerer.actions;
 
-import personal.opensrcerer.util.Player;
-import personal.opensrcerer.util.RequestDispatcher;
-import personal.opensrcerer.util.SnakeEyes;
+import personal.opensrcerer.engine.GameSnapshot;
+import personal.opensrcerer.engine.PlayerSnapshot;
+import personal.opensrcerer.engine.RollOutcome;
+import personal.opensrcerer.flightRecorder.RollEvent;
+import personal.opensrcerer.metrics.Histogram;
+import personal.opensrcerer.metrics.MetricsRegistry;
+import personal.opensrcerer.util.GameSession;
 
 import javax.swing.*;
-import java.util.Comparator;
-import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
  * A Runnable that is processed from the dispatcher.
+ * The time that every part of a roll takes is kept in the MetricsRegistry, and every roll is recorded as a
+ * Flight Recorder event.
  */
 public class RollRequest implements Request {
+
+    /**
+     * How long to wait before handing a roll back to a full Mailbox again, in milliseconds.
+     */
+    private static final int RETRY_MILLIS = 50;
+
+    /**
+     * How long the roll animation plays.
+     */
+    private static final Histogram animationTime =
+            MetricsRegistry.histogram("roll_animation_seconds", "Time that the roll animation plays for.");
+
+    /**
+     * How long it takes to roll the game's dice and apply the rules.
+     */
+    private static final Histogram scoringTime =
+            MetricsRegistry.histogram("roll_scoring_seconds",
+                    "Time that rolling the dice and applying the rules takes.");
+
+    /**
+     * How long it takes to show the summary after a roll.
+     */
+    private static final Histogram refreshTime =
+            MetricsRegistry.histogram("roll_ui_refresh_seconds", "Time that showing the summary after a roll takes.");
+
+    /**
+     * How long a whole roll takes, from the start of the animation until the rules have been applied.
+     */
+    private static final Histogram rollTime =
+            MetricsRegistry.histogram("roll_total_seconds",
+                    "Time from the start of the roll animation until the rules have been applied.");
+
+    /**
+     * The game that this request belongs to.
+     */
+    private final GameSession session;
+
     /**
      * Player that initiated this request.
      */
-    private final Player player;
+    private final PlayerSnapshot player;
+
+    /**
+     * The version of the game that the dice were rolled in. The roll is dropped if the game has changed since.
+     */
+    private GameSnapshot rolledIn;
+
+    /**
+     * The System.nanoTime that the animation of this roll started at.
+     */
+    private long start;
+
+    /**
+     * The System.nanoTime that the animation of this roll ended at.
+     */
+    private long animated;
+
+    /**
+     * The Flight Recorder event of this roll, which starts with the animation.
+     */
+    private RollEvent event;
+
+    /**
+     * Create a new RollRequest object for the player on turn and put it in the
+     * game's Mailbox. A roll for a player that already has one waiting is coalesced into it.
+     * @param session The game that this request belongs to.
+     */
+    public RollRequest(GameSession session) {
+        this(session, session.getPlayerOnTurn());
+        if (!session.getMailbox().offer(this)) {
+            System.out.println("Roll request for " + player.name() + " was rejected, the mailbox is full!");
+        }
+    }
 
     /**
-     * Create a new RollRequest object and put it in the
-     * Request queue.
-     * @param player The player that initialized this request.
+     * Create a new RollRequest object without putting it in the game's Mailbox.
+     * @param session The game that this request belongs to.
+     * @param player The player that this request rolls for.
      */
-    public RollRequest(Player player) {
+    private RollRequest(GameSession session, PlayerSnapshot player) {
+        this.session = session;
         this.player = player;
-        RequestDispatcher.queueRequest(this);
     }
 
+    /**
+     * Puts a roll for the player on turn in the game's Mailbox. If the Mailbox is full, tries again
+     * a moment later, so that a turbo game never stops because one of its rolls was rejected.
+     * @param session The game to roll in.
+     */
+    private static void offerNextRoll(GameSession session) {
+        if (!session.getMailbox().offer(new RollRequest(session, session.getPlayerOnTurn()))) {
+            session.schedule(() -> offerNextRoll(session), RETRY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return The seat that this request rolls for, as only one roll per player needs to wait in the Mailbox.
+     */
     @Override
-    public void run() {
-        // Lock the button so the user does not click it relentlessly
-        SwingUtilities.invokeLater(() -> SnakeEyes.getRollButton().restrict());
-        SnakeEyes.getBanner().update(this.player.getPlayerName() + " is rolling...", false);
-        simulateRoll(); // Simulate dice being rolled
-        player.roll(getRandomDice()); // Perform internal player dice and score additions that have to be synchronized
+    public Object getCoalesceKey() {
+        return player.seat();
+    }
 
-        // Variable to store delay depending on whether the player is a bot or not
-        int delay = (player.isCpu()) ? 0 : 5;
+    @Override
+    public void run() {
+        // Drop requests for games that have been abandoned, for players that are no longer on turn,
+        // or while the dice are already rolling
+        if (session.isClosed() || session.isFinished() || session.getPlayerOnTurn().seat() != player.seat()
+                || session.isRolling()) {
+            return;
+        }
 
-        // Unlock the 5 seconds later (give time to player to read their score if they are not a bot)
-        RequestDispatcher.schedule(() -> {
-            if (SnakeEyes.isFinished()) {
-                // Calculate the winning player using a maximum function
-                Optional<Player> winner = SnakeEyes.getPlayers().max(Comparator.comparing(Player::getScore));
-                // If the Optional value is not null
-                if (winner.isPresent()) {
-                    // Show winner banner
-                    SnakeEyes.getBanner().update("The game has finished! Winner: " + winner.get().getPlayerName(), false);
-                } else {
-                    SnakeEyes.getBanner().update("The game has finished!", false); // Show generic game ended banner
-                }
-            } else {
-                // Show roll message if next player is not a bot.
-                SnakeEyes.getBanner().update();
+        // Bot tables in turbo mode skip the animation and play a whole round at once
+        if (session.isTurbo()) {
+            session.playFast(false);
+            if (!session.isFinished()) {
+                offerNextRoll(session);
             }
+            return;
+        }
 
-            SnakeEyes.getScoreboard().refresh();
-            SnakeEyes.getDiceboard().refreshUnrolled();
-
-            if (!SnakeEyes.getPlayerOnTurn().isCpu() || SnakeEyes.isFinished()) { // Allow button clicking for humans only
-                SwingUtilities.invokeLater(() -> SnakeEyes.getRollButton().allow());
-            }
+        // Lock the button so the user does not click it relentlessly
+        SwingUtilities.invokeLater(() -> session.getRollButton().restrict());
+        session.getBanner().update(this.player.name() + " is rolling...", false);
 
-        }, delay, TimeUnit.SECONDS);
+        // Simulate dice being rolled without blocking this thread, then roll the game's dice back on its Mailbox
+        event = new RollEvent();
+        event.begin();
+        rolledIn = session.getSnapshot();
+        start = System.nanoTime();
+        session.animateRoll(() -> {
+            animated = animationTime.recordSince(start);
+            offerFinish();
+        });
     }
 
     /**
-     * Simulates the dice rolling by picking random dice values and refreshing the Diceboard.
+     * Hands the rest of the roll back to the game's Mailbox, as nothing else may change the game.
+     * If the Mailbox is full, tries again a moment later instead of losing the roll.
      */
-    private void simulateRoll() {
-        for (short rolls = 0; rolls < 19; ++rolls) {
-            // Random function I made up to make timer look interesting
-            short timer = (short) ((1/3f * Math.pow(rolls, 2)) + 100);
-            try {
-                Thread.sleep(timer);
-            } catch (InterruptedException ex) {
-                System.out.println("Something went wrong! " + ex);
-            }
-            SnakeEyes.getDiceboard().refresh(getRandomDice());
+    private void offerFinish() {
+        if (!session.getMailbox().offer(this::finishRoll)) {
+            session.schedule(this::offerFinish, RETRY_MILLIS, TimeUnit.MILLISECONDS);
         }
     }
 
     /**
-     * @return A pseudorandom short from 1 - 6 that matches a die's number.
+     * Rolls the game's dice after the animation has finished, and unlocks the button for the next player.
      */
-    private static short[] getRandomDice() {
-        return new short[] {
-                (short) ThreadLocalRandom.current().nextInt(1, 7),
-                (short) ThreadLocalRandom.current().nextInt(1, 7)
-        };
+    private void finishRoll() {
+        // The game might have been fast-forwarded or taken back while the dice were rolling
+        if (session.isClosed() || session.isFinished() || session.getSnapshot() != rolledIn) {
+            return;
+        }
+        int round = session.getCurrentRound();
+        long scoring = System.nanoTime();
+        // Apply the roll on the game's Mailbox, its only writer, which publishes the result as a new snapshot
+        RollOutcome outcome = session.roll();
+        scoringTime.recordSince(scoring);
+        rollTime.recordSince(start);
+        if (event.shouldCommit()) {
+            event.player = player.name();
+            event.round = round;
+            event.outcome = outcome.name();
+            event.score = session.getSnapshot().getPlayer(player.seat()).score();
+            event.animation = animated - start;
+            event.commit();
+        }
+
+        // Variable to store delay depending on whether the player is a bot or not
+        int delay = (player.cpu()) ? 0 : 5;
+
+        // Unlock the 5 seconds later (give time to player to read their score if they are not a bot)
+        session.schedule(() -> {
+            long refresh = System.nanoTime();
+            session.publishSummary();
+            refreshTime.recordSince(refresh);
+        }, delay, TimeUnit.SECONDS);
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.engine;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Encodes a roll of two dice as a single int, so that rolls can be passed around without allocating.
+ * A roll is an index from 0 - 35 into the 36 possible outcomes: (die1 - 1) * 6 + (die2 - 1).
+ * The extra index UNROLLED stands for the question mark (?) dice that are shown before a roll.
+ */
+public final class Dice {
+
+    /**
+     * The number of possible outcomes of a roll.
+     */
+    public static final int OUTCOMES = 36;
+
+    /**
+     * Index of the dice that have not been rolled yet. Both of its dice have the value 11.
+     */
+    public static final int UNROLLED = OUTCOMES;
+
+    /**
+     * Value of the first die of every index.
+     */
+    private static final byte[] FIRST = new byte[OUTCOMES + 1];
+
+    /**
+     * Value of the second die of every index.
+     */
+    private static final byte[] SECOND = new byte[OUTCOMES + 1];
+
+    /**
+     * Sum of the dice of every index.
+     */
+    private static final byte[] SUM = new byte[OUTCOMES + 1];
+
+    static {
+        for (int roll = 0; roll < OUTCOMES; ++roll) {
+            FIRST[roll] = (byte) (roll / 6 + 1);
+            SECOND[roll] = (byte) (roll % 6 + 1);
+            SUM[roll] = (byte) (FIRST[roll] + SECOND[roll]);
+        }
+        FIRST[UNROLLED] = 11;
+        SECOND[UNROLLED] = 11;
+        SUM[UNROLLED] = 22;
+    }
+
+    /**
+     * @param die1 The value of the first die, from 1 - 6.
+     * @param die2 The value of the second die, from 1 - 6.
+     * @return The roll index for the two dice.
+     * @throws IllegalArgumentException If a die is not from 1 - 6.
+     */
+    public static int of(int die1, int die2) {
+        if (die1 < 1 || die1 > 6 || die2 < 1 || die2 > 6) {
+            throw new IllegalArgumentException("Dice values must be from 1 - 6!");
+        }
+        return (die1 - 1) * 6 + (die2 - 1);
+    }
+
+    /**
+     * Rolls unseeded dice, for rolls that only need to look random, like the roll animation.
+     * @return A pseudorandom roll index from 0 - 35.
+     */
+    public static int random() {
+        return random(ThreadLocalRandom.current());
+    }
+
+    /**
+     * @param random The generator to roll with.
+     * @return A pseudorandom roll index from 0 - 35.
+     */
+    public static int random(RandomGenerator random) {
+        return random.nextInt(OUTCOMES);
+    }
+
+    /**
+     * @param roll A roll index.
+     * @return The value of the first die.
+     */
+    public static int first(int roll) {
+        return FIRST[roll];
+    }
+
+    /**
+     * @param roll A roll index.
+     * @return The value of the second die.
+     */
+    public static int second(int roll) {
+        return SECOND[roll];
+    }
+
+    /**
+     * @param roll A roll index.
+     * @return The sum of both dice.
+     */
+    public static int sum(int roll) {
+        return SUM[roll];
+    }
+}
@@ -0,0 +1,422 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.engine;
+
+import personal.opensrcerer.eventLog.EventLogWriter;
+import personal.opensrcerer.flightRecorder.RoundEvent;
+import personal.opensrcerer.flightRecorder.ScoreChangeEvent;
+import personal.opensrcerer.flightRecorder.TurnEvent;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Represents one full SnakeEyes game without any GUI attached.
+ * Keeps track of the turn order, the rounds and whether the game has finished.
+ * Every game rolls its dice from its own seed, so a game can be played again exactly by using the same seed.
+ * Score changes, turns and rounds are recorded as Flight Recorder events, which cost next to nothing
+ * unless a recording is running.
+ * A game must only be changed by one thread at a time. Other threads read it through the GameSnapshots that it takes.
+ * A game can also be put back into the state of an earlier snapshot, and played on from there.
+ */
+public class GameEngine {
+
+    /**
+     * All the players in the game, ordered by their seat.
+     */
+    private final PlayerState[] players;
+
+    /**
+     * Passes the turn between the seats of the players, skipping those that have finished the round.
+     */
+    private final TurnRing turns;
+
+    /**
+     * Ranks the players by their score, and is updated on every roll that changes a score.
+     * Null until the standings are first asked for, so games that never need them do not pay for them.
+     */
+    private Leaderboard leaderboard;
+
+    /**
+     * The last snapshot that was taken of this game, whose unchanged players are shared by the next one.
+     */
+    private GameSnapshot lastSnapshot;
+
+    /**
+     * One bit for every seat, set if the seat has rolled since the last snapshot. Only kept after the first snapshot.
+     */
+    private final long[] changed;
+
+    /**
+     * Used to show if a round has started since the last snapshot, which changes every seat.
+     */
+    private boolean allChanged;
+
+    /**
+     * The number of rolls that have been applied to this game.
+     */
+    private long rolls;
+
+    /**
+     * The seat of the player that made the last roll, or -1 if nobody has rolled.
+     */
+    private int lastSeat = -1;
+
+    /**
+     * The roll index of the last roll, or Dice.UNROLLED if nobody has rolled.
+     */
+    private int lastRoll = Dice.UNROLLED;
+
+    /**
+     * The total rounds in this game.
+     */
+    private final int totalRounds;
+
+    /**
+     * This game's current round.
+     */
+    private int currentRound = 1;
+
+    /**
+     * Used to show if the game has finished.
+     */
+    private boolean finished;
+
+    /**
+     * The log that every roll, status change and round change is appended to, or null if the game is not logged.
+     */
+    private final EventLogWriter log;
+
+    /**
+     * The seed that this game's dice are rolled from.
+     */
+    private final long seed;
+
+    /**
+     * The generator that this game's dice are rolled with. Only used by the thread that plays the game.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Create a new game with a random seed, that is not logged.
+     * @param players Players that will play in the game, ordered by their seat.
+     * @param totalRounds The total number of rounds in the game.
+     */
+    public GameEngine(PlayerState[] players, int totalRounds) {
+        this(players, totalRounds, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Create a new game that is not logged.
+     * @param players Players that will play in the game, ordered by their seat.
+     * @param totalRounds The total number of rounds in the game.
+     * @param seed The seed that the game's dice are rolled from.
+     */
+    public GameEngine(PlayerState[] players, int totalRounds, long seed) {
+        this(players, totalRounds, seed, null);
+    }
+
+    /**
+     * Create a new game.
+     * @param players Players that will play in the game, ordered by their seat.
+     * @param totalRounds The total number of rounds in the game.
+     * @param seed The seed that the game's dice are rolled from.
+     * @param log The log to append the game's events to, or null if the game should not be logged.
+     * @throws IllegalArgumentException If a player does not sit on the seat of its place in the array.
+     */
+    public GameEngine(PlayerState[] players, int totalRounds, long seed, EventLogWriter log) {
+        for (int seat = 0; seat < players.length; ++seat) {
+            if (players[seat].getSeat() != seat) {
+                throw new IllegalArgumentException("Player " + players[seat].getName() + " is not on seat " + seat + "!");
+            }
+        }
+        this.players = players;
+        this.turns = new TurnRing(players.length);
+        this.changed = new long[(players.length + Long.SIZE - 1) / Long.SIZE];
+        this.totalRounds = totalRounds;
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.log = log;
+        if (log != null) {
+            log.gameStart(players.length, totalRounds, seed);
+        }
+    }
+
+    /**
+     * Rolls this game's dice for the player on turn and advances the turn.
+     * @return What the roll did to the player.
+     */
+    public RollOutcome roll() {
+        return roll(nextDice());
+    }
+
+    /**
+     * Rolls the dice for the player on turn and advances the turn.
+     * @param roll The roll index, as given by Dice.
+     * @return What the roll did to the player.
+     */
+    public RollOutcome roll(int roll) {
+        RollOutcome outcome = applyRoll(roll);
+        nextTurn();
+        return outcome;
+    }
+
+    /**
+     * Applies the rules to the player on turn for a roll, without advancing the turn.
+     * @param roll The roll index, as given by Dice.
+     * @return What the roll did to the player.
+     */
+    public RollOutcome applyRoll(int roll) {
+        PlayerState player = getPlayerOnTurn();
+        RollOutcome outcome = RoundRules.roll(player, roll);
+        ++rolls;
+        if (lastSnapshot != null) { // Games that never take snapshots do not need to know what changed
+            lastSeat = player.getSeat();
+            lastRoll = roll;
+            changed[lastSeat >>> 6] |= 1L << lastSeat;
+        }
+        if (outcome.finishesRound()) {
+            turns.markFinished(player.getSeat());
+        }
+        if (leaderboard != null) {
+            leaderboard.update(player.getSeat(), player.getScore());
+        }
+        if (log != null) {
+            log.roll(player.getSeat(), roll, outcome);
+        }
+
+        ScoreChangeEvent event = new ScoreChangeEvent();
+        if (event.isEnabled()) {
+            event.change = outcome.scoreFor(player.getConsecutiveRolls());
+            if (event.change != 0) {
+                event.player = player.getName();
+                event.seat = player.getSeat();
+                event.round = currentRound;
+                event.outcome = outcome.name();
+                event.score = player.getScore();
+                event.commit();
+            }
+        }
+        return outcome;
+    }
+
+    /**
+     * Checks if the round is about to end, then advances the turn to the next player.
+     * If all players have finished rolling, the round advances, or the game ends.
+     */
+    public void nextTurn() {
+        if (turns.allFinished()) { // If all players have finished rolling
+            nextRound(); // Go to the next round, or finish the game
+        } else {
+            // Advance the turn to the next AVAILABLE player that hasn't finished
+            int previous = turns.current();
+            turns.advance();
+
+            TurnEvent event = new TurnEvent();
+            if (event.isEnabled()) {
+                event.from = players[previous].getName();
+                event.to = getPlayerOnTurn().getName();
+                event.round = currentRound;
+                event.finished = turns.getFinishedCount();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Advance the game to the next round.
+     * If there are no more rounds, the game finishes.
+     */
+    private void nextRound() {
+        RoundEvent event = new RoundEvent();
+        if (event.isEnabled()) {
+            event.round = currentRound;
+            event.totalRounds = totalRounds;
+            event.leader = (leaderboard != null) ? players[leaderboard.leader()].getName() : null;
+            event.gameFinished = currentRound >= totalRounds;
+            event.commit();
+        }
+
+        if (currentRound < totalRounds) { // If the current round is at a lesser value than the total rounds
+            currentRound++; // Advance to the next round
+            for (PlayerState player : players) {
+                player.resetStatus(false); // Resets the players' statuses to unrolled
+            }
+            turns.reset(); // Nobody has finished, and the turn goes to the first player
+            allChanged = true;
+            if (log != null) {
+                log.round();
+            }
+        } else {
+            finished = true;
+            if (log != null) {
+                int[] scores = new int[size()];
+                for (int seat = 0; seat < scores.length; ++seat) {
+                    scores[seat] = players[seat].getScore();
+                }
+                log.gameEnd(scores);
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot of the current state of this game, that can be read by any thread, as the next version
+     * of the game. The new version shares everything but the players that have rolled with the last one, unless a
+     * round has started since. The standings are built the first time that this is called.
+     * Must be called by the thread that plays the game.
+     * @return A new snapshot of this game, or the last one if nothing has changed since it was taken.
+     */
+    public GameSnapshot snapshot() {
+        if (lastSnapshot != null && lastSnapshot.getRolls() == rolls && lastSnapshot.isFinished() == finished
+                && lastSnapshot.getPlayerOnTurn().seat() == turns.current()) {
+            return lastSnapshot;
+        }
+
+        PlayerVector vector;
+        if (lastSnapshot == null || allChanged) {
+            PlayerSnapshot[] copies = new PlayerSnapshot[players.length];
+            for (int seat = 0; seat < players.length; ++seat) {
+                PlayerSnapshot previous = (lastSnapshot != null) ? lastSnapshot.getPlayer(seat) : null;
+                copies[seat] = (previous != null && previous.matches(players[seat]))
+                        ? previous : PlayerSnapshot.of(players[seat]);
+            }
+            vector = PlayerVector.of(copies);
+        } else {
+            vector = lastSnapshot.getPlayers();
+            for (int word = 0; word < changed.length; ++word) {
+                for (long bits = changed[word]; bits != 0; bits &= bits - 1) {
+                    int seat = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    if (!vector.get(seat).matches(players[seat])) {
+                        vector = vector.with(seat, PlayerSnapshot.of(players[seat]));
+                    }
+                }
+            }
+        }
+        Arrays.fill(changed, 0L);
+        allChanged = false;
+
+        Leaderboard standings = getLeaderboard();
+        int leader = standings.leader();
+        lastSnapshot = new GameSnapshot(vector, lastSnapshot, turns.current(), currentRound, totalRounds, finished,
+                leader, standings.countWith(standings.getScore(leader)), rolls, lastSeat, lastRoll);
+        return lastSnapshot;
+    }
+
+    /**
+     * Puts this game back into the state of an earlier snapshot, so that it is played on from there.
+     * The versions after the snapshot are no longer part of the game's history. The dice are not rolled back,
+     * so the rolls that are made after going back are new ones. Must be called by the thread that plays the game.
+     * @param version A snapshot that was taken of this game.
+     * @throws IllegalArgumentException If the snapshot is of a table with another number of players.
+     * @throws IllegalStateException If the game is logged, as its log cannot be taken back.
+     */
+    public void restore(GameSnapshot version) {
+        if (version.size() != players.length) {
+            throw new IllegalArgumentException("A snapshot of " + version.size() + " players cannot be restored " +
+                    "to a game of " + players.length + "!");
+        }
+        if (log != null) {
+            throw new IllegalStateException("A logged game cannot go back to an earlier version!");
+        }
+
+        turns.reset();
+        for (int seat = 0; seat < players.length; ++seat) {
+            PlayerSnapshot saved = version.getPlayer(seat);
+            players[seat].restore(saved);
+            if (saved.status() == PlayerStatus.FINISHED_ROUND) {
+                turns.markFinished(seat);
+            }
+            if (leaderboard != null) {
+                leaderboard.update(seat, saved.score());
+            }
+        }
+        turns.moveTo(version.getPlayerOnTurn().seat());
+        currentRound = version.getCurrentRound();
+        finished = version.isFinished();
+        rolls = version.getRolls();
+        lastSeat = (version.getLastRoller() != null) ? version.getLastRoller().seat() : -1;
+        lastRoll = version.getLastRoll();
+
+        // The snapshot is the latest version again, and nothing has changed since it was taken
+        lastSnapshot = version;
+        Arrays.fill(changed, 0L);
+        allChanged = false;
+    }
+
+    /**
+     * Rolls this game's dice without applying them. Every call gives the next roll of the game's seed.
+     * @return A pseudorandom roll index from 0 - 35.
+     */
+    public int nextDice() {
+        return Dice.random(random);
+    }
+
+    /**
+     * @return The seed that this game's dice are rolled from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The player whose turn it is.
+     */
+    public PlayerState getPlayerOnTurn() {
+        return players[turns.current()];
+    }
+
+    /**
+     * @return All the players in the game as a Stream, ordered by their seat.
+     */
+    public Stream<PlayerState> getPlayers() {
+        return Arrays.stream(players);
+    }
+
+    /**
+     * Builds the players' standings the first time it is called, and keeps them updated after that.
+     * @return The players' standings. Must only be used by the thread that plays the game, or after it has finished.
+     */
+    public Leaderboard getLeaderboard() {
+        if (leaderboard == null) {
+            leaderboard = new Leaderboard(players.length);
+            for (PlayerState player : players) {
+                leaderboard.update(player.getSeat(), player.getScore());
+            }
+        }
+        return leaderboard;
+    }
+
+    /**
+     * @return The current round of the game.
+     */
+    public int getCurrentRound() {
+        return currentRound;
+    }
+
+    /**
+     * @return The total rounds of the game.
+     */
+    public int getTotalRounds() {
+        return totalRounds;
+    }
+
+    /**
+     * @return The number of players in this game.
+     */
+    public int size() {
+        return players.length;
+    }
+
+    /**
+     * @return Whether this game has finished.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+}
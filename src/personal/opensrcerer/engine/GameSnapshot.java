@@ -0,0 +1,225 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.engine;
+
+/**
+ * The state of a whole game at one moment, which never changes once it has been taken.
+ * Only the thread that plays a game changes it, and it publishes a new snapshot after every roll,
+ * so any other thread can read a consistent state of the game without locking.
+ * <br>
+ * Every snapshot is a version of the game that links to the version before it, so the latest snapshot holds the
+ * whole history of the game. The versions share the players that have not changed between them.
+ */
+public final class GameSnapshot {
+
+    /**
+     * The players of the game, ordered by their seat.
+     */
+    private final PlayerVector players;
+
+    /**
+     * The version of the game before this one, or null if this is the first.
+     */
+    private final GameSnapshot previous;
+
+    /**
+     * The number of versions before this one.
+     */
+    private final int version;
+
+    /**
+     * The seat of the player whose turn it is.
+     */
+    private final int turn;
+
+    /**
+     * The current round of the game.
+     */
+    private final int currentRound;
+
+    /**
+     * The total rounds in the game.
+     */
+    private final int totalRounds;
+
+    /**
+     * Whether the game has finished.
+     */
+    private final boolean finished;
+
+    /**
+     * The seat in first place.
+     */
+    private final int leader;
+
+    /**
+     * The number of players that share the score of the leader, the leader included.
+     */
+    private final int tiedForFirst;
+
+    /**
+     * The number of rolls that had been applied to the game.
+     */
+    private final long rolls;
+
+    /**
+     * The seat of the player that made the last roll, or -1 if nobody has rolled.
+     */
+    private final int lastSeat;
+
+    /**
+     * The roll index of the last roll, or Dice.UNROLLED if nobody has rolled.
+     */
+    private final int lastRoll;
+
+    /**
+     * Create a new snapshot.
+     * @param players The players of the game, ordered by their seat.
+     * @param previous The version of the game before this one, or null if this is the first.
+     * @param turn The seat of the player whose turn it is.
+     * @param currentRound The current round of the game.
+     * @param totalRounds The total rounds in the game.
+     * @param finished Whether the game has finished.
+     * @param leader The seat in first place.
+     * @param tiedForFirst The number of players that share the score of the leader.
+     * @param rolls The number of rolls that had been applied to the game.
+     * @param lastSeat The seat of the player that made the last roll, or -1 if nobody has rolled.
+     * @param lastRoll The roll index of the last roll, or Dice.UNROLLED if nobody has rolled.
+     */
+    GameSnapshot(PlayerVector players, GameSnapshot previous, int turn, int currentRound, int totalRounds,
+                 boolean finished, int leader, int tiedForFirst, long rolls, int lastSeat, int lastRoll) {
+        this.players = players;
+        this.previous = previous;
+        this.version = (previous == null) ? 0 : previous.version + 1;
+        this.turn = turn;
+        this.currentRound = currentRound;
+        this.totalRounds = totalRounds;
+        this.finished = finished;
+        this.leader = leader;
+        this.tiedForFirst = tiedForFirst;
+        this.rolls = rolls;
+        this.lastSeat = lastSeat;
+        this.lastRoll = lastRoll;
+    }
+
+    /**
+     * @param seat A seat.
+     * @return The player on that seat.
+     */
+    public PlayerSnapshot getPlayer(int seat) {
+        return players.get(seat);
+    }
+
+    /**
+     * @return The player whose turn it is.
+     */
+    public PlayerSnapshot getPlayerOnTurn() {
+        return players.get(turn);
+    }
+
+    /**
+     * @return The player in first place, which is the lowest seat of those with the highest score.
+     */
+    public PlayerSnapshot getLeader() {
+        return players.get(leader);
+    }
+
+    /**
+     * @return The player that made the last roll, as they were after it, or null if nobody has rolled.
+     */
+    public PlayerSnapshot getLastRoller() {
+        return (lastSeat < 0) ? null : players.get(lastSeat);
+    }
+
+    /**
+     * @return The roll index of the last roll, or Dice.UNROLLED if nobody has rolled.
+     */
+    public int getLastRoll() {
+        return lastRoll;
+    }
+
+    /**
+     * @return The version of the game before this one, or null if this is the first.
+     */
+    public GameSnapshot getPrevious() {
+        return previous;
+    }
+
+    /**
+     * @return The number of versions of the game before this one, starting from 0 for the first.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Walks back through the history of the game to an earlier version.
+     * @param version The number of the version, as given by getVersion.
+     * @return That version of the game.
+     * @throws IllegalArgumentException If the version does not come before or at this one.
+     */
+    public GameSnapshot findVersion(int version) {
+        if (version < 0 || version > this.version) {
+            throw new IllegalArgumentException("Version " + version + " is not in the history of version " +
+                    this.version + "!");
+        }
+        GameSnapshot snapshot = this;
+        while (snapshot.version != version) {
+            snapshot = snapshot.previous;
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return The number of players that share the score of the leader, the leader included.
+     */
+    public int getTiedForFirst() {
+        return tiedForFirst;
+    }
+
+    /**
+     * @return The current round of the game.
+     */
+    public int getCurrentRound() {
+        return currentRound;
+    }
+
+    /**
+     * @return The total rounds of the game.
+     */
+    public int getTotalRounds() {
+        return totalRounds;
+    }
+
+    /**
+     * @return Whether the game has finished.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * @return The number of rolls that had been applied to the game when this snapshot was taken.
+     */
+    public long getRolls() {
+        return rolls;
+    }
+
+    /**
+     * @return The number of players in the game.
+     */
+    public int size() {
+        return players.size();
+    }
+
+    /**
+     * @return The players of the game, which the next version shares its unchanged players with.
+     */
+    PlayerVector getPlayers() {
+        return players;
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * Keeps the seats of a table ranked by their score as the scores change, so that standings never need a scan.
+ * Higher scores come first, and players with the same score are ordered by their seat.
+ * Changing a score costs O(log n), and so do the rank of a seat, the seat in a given place and the number of
+ * players that share a score. The structure is a treap that is stored in arrays, with one node for every seat,
+ * so nothing is allocated after it is created. Not thread safe.
+ */
+public final class Leaderboard {
+
+    /**
+     * Stands for a missing node.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * The score of every seat.
+     */
+    private final int[] scores;
+
+    /**
+     * The node that comes before every seat's node, or NONE.
+     */
+    private final int[] left;
+
+    /**
+     * The node that comes after every seat's node, or NONE.
+     */
+    private final int[] right;
+
+    /**
+     * The number of nodes under every seat's node, itself included.
+     */
+    private final int[] sizes;
+
+    /**
+     * The heap priority of every seat's node, which keeps the tree balanced.
+     */
+    private final int[] priorities;
+
+    /**
+     * The node at the top of the tree.
+     */
+    private int root = NONE;
+
+    /**
+     * Create a new leaderboard where every seat has a score of 0.
+     * @param size The number of seats.
+     * @throws IllegalArgumentException If the number of seats is not positive.
+     */
+    public Leaderboard(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("A table must have at least one seat!");
+        }
+        scores = new int[size];
+        left = new int[size];
+        right = new int[size];
+        sizes = new int[size];
+        priorities = new int[size];
+        SplittableRandom random = new SplittableRandom(size); // The same table always has the same shape
+        for (int seat = 0; seat < size; ++seat) {
+            priorities[seat] = random.nextInt();
+            insert(seat);
+        }
+    }
+
+    /**
+     * Moves a seat to the place of its new score.
+     * @param seat The seat whose score has changed.
+     * @param score The new score of the seat.
+     */
+    public void update(int seat, int score) {
+        if (scores[seat] == score) {
+            return;
+        }
+        root = remove(root, seat);
+        scores[seat] = score;
+        insert(seat);
+    }
+
+    /**
+     * @param seat A seat.
+     * @return The score of the seat, as last given to this leaderboard.
+     */
+    public int getScore(int seat) {
+        return scores[seat];
+    }
+
+    /**
+     * @return The seat in first place, which is the lowest seat of those with the highest score.
+     */
+    public int leader() {
+        int node = root;
+        while (left[node] != NONE) {
+            node = left[node];
+        }
+        return node;
+    }
+
+    /**
+     * Players with the same score share a rank, and the players after them skip the ranks that were shared.
+     * @param seat A seat.
+     * @return The rank of the seat, starting from 1 for the highest score.
+     */
+    public int rank(int seat) {
+        return countAbove(scores[seat]) + 1;
+    }
+
+    /**
+     * @param place A place on the leaderboard, starting from 0 for first place.
+     * @return The seat in that place.
+     * @throws IndexOutOfBoundsException If there is no such place.
+     */
+    public int seatAt(int place) {
+        if (place < 0 || place >= size()) {
+            throw new IndexOutOfBoundsException("There is no place " + place + " on a leaderboard of " + size() + "!");
+        }
+        int node = root;
+        while (true) {
+            int before = sizeOf(left[node]);
+            if (place < before) {
+                node = left[node];
+            } else if (place == before) {
+                return node;
+            } else {
+                place -= before + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Fills an array with the seats in the first places, in order.
+     * @param seats The array to fill. Its length is the number of places that are wanted.
+     * @return The number of seats that were written, which is smaller than the length if there are fewer seats.
+     */
+    public int top(int[] seats) {
+        return top(root, seats, 0);
+    }
+
+    /**
+     * @param score A score.
+     * @return The number of players that have a higher score.
+     */
+    public int countAbove(int score) {
+        int count = 0;
+        int node = root;
+        while (node != NONE) {
+            if (scores[node] > score) {
+                count += sizeOf(left[node]) + 1;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param score A score.
+     * @return The number of players that have exactly this score.
+     */
+    public int countWith(int score) {
+        return (score == Integer.MIN_VALUE) ? size() - countAbove(score) : countAbove(score - 1) - countAbove(score);
+    }
+
+    /**
+     * @param seat A seat.
+     * @return Whether another player has the same score as the seat.
+     */
+    public boolean isTied(int seat) {
+        return countWith(scores[seat]) > 1;
+    }
+
+    /**
+     * @return The number of seats on the leaderboard.
+     */
+    public int size() {
+        return scores.length;
+    }
+
+    /**
+     * @param first A seat.
+     * @param second Another seat.
+     * @return Whether the first seat comes before the second one on the leaderboard.
+     */
+    private boolean before(int first, int second) {
+        return scores[first] > scores[second] || (scores[first] == scores[second] && first < second);
+    }
+
+    /**
+     * Adds the node of a seat to the tree, at the place of its score.
+     * @param seat The seat to add, which must not be in the tree.
+     */
+    private void insert(int seat) {
+        left[seat] = NONE;
+        right[seat] = NONE;
+        sizes[seat] = 1;
+        root = insert(root, seat);
+    }
+
+    /**
+     * @param node The top of a subtree.
+     * @param seat The seat to add.
+     * @return The new top of the subtree.
+     */
+    private int insert(int node, int seat) {
+        if (node == NONE) {
+            return seat;
+        }
+        if (before(seat, node)) {
+            left[node] = insert(left[node], seat);
+            if (priorities[left[node]] > priorities[node]) {
+                node = rotateRight(node);
+            }
+        } else {
+            right[node] = insert(right[node], seat);
+            if (priorities[right[node]] > priorities[node]) {
+                node = rotateLeft(node);
+            }
+        }
+        resize(node);
+        return node;
+    }
+
+    /**
+     * Takes the node of a seat out of a subtree. The seat's score must not have changed since it was added.
+     * @param node The top of a subtree.
+     * @param seat The seat to take out.
+     * @return The new top of the subtree.
+     */
+    private int remove(int node, int seat) {
+        if (node == seat) {
+            return merge(left[node], right[node]);
+        }
+        if (before(seat, node)) {
+            left[node] = remove(left[node], seat);
+        } else {
+            right[node] = remove(right[node], seat);
+        }
+        resize(node);
+        return node;
+    }
+
+    /**
+     * @param first A subtree whose seats all come before those of the second.
+     * @param second Another subtree.
+     * @return The top of the joined subtree.
+     */
+    private int merge(int first, int second) {
+        if (first == NONE) {
+            return second;
+        }
+        if (second == NONE) {
+            return first;
+        }
+        if (priorities[first] > priorities[second]) {
+            right[first] = merge(right[first], second);
+            resize(first);
+            return first;
+        }
+        left[second] = merge(first, left[second]);
+        resize(second);
+        return second;
+    }
+
+    /**
+     * @param node A node whose left node moves up.
+     * @return The new top.
+     */
+    private int rotateRight(int node) {
+        int top = left[node];
+        left[node] = right[top];
+        right[top] = node;
+        resize(node);
+        return top;
+    }
+
+    /**
+     * @param node A node whose right node moves up.
+     * @return The new top.
+     */
+    private int rotateLeft(int node) {
+        int top = right[node];
+        right[node] = left[top];
+        left[top] = node;
+        resize(node);
+        return top;
+    }
+
+    /**
+     * @param node The top of a subtree.
+     * @param seats The array to fill.
+     * @param count The number of seats that have been written.
+     * @return The number of seats that have been written after this subtree.
+     */
+    private int top(int node, int[] seats, int count) {
+        if (node == NONE || count == seats.length) {
+            return count;
+        }
+        count = top(left[node], seats, count);
+        if (count < seats.length) {
+            seats[count++] = node;
+            count = top(right[node], seats, count);
+        }
+        return count;
+    }
+
+    /**
+     * Updates the size of a node from the nodes under it.
+     * @param node The node.
+     */
+    private void resize(int node) {
+        sizes[node] = sizeOf(left[node]) + sizeOf(right[node]) + 1;
+    }
+
+    /**
+     * @param node A node, or NONE.
+     * @return The number of nodes in the subtree.
+     */
+    private int sizeOf(int node) {
+        return (node == NONE) ? 0 : sizes[node];
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.engine;
+
+/**
+ * A copy of a player's state that never changes, taken when a GameSnapshot is published.
+ * A player that has not changed since the last snapshot keeps the same copy, so snapshots share them.
+ * @param seat The player's seat at the table, starting from 0.
+ * @param name The player's name.
+ * @param cpu Whether the player is a bot.
+ * @param status The player's status in relation to the round.
+ * @param pointRoll The roll index of the player's point dice, or Dice.UNROLLED if they are not set.
+ * @param consecutiveRolls How many times the player has rolled this round.
+ * @param score The player's score.
+ */
+public record PlayerSnapshot(int seat, String name, boolean cpu, PlayerStatus status, int pointRoll,
+                             int consecutiveRolls, int score) {
+
+    /**
+     * @param player A player.
+     * @return A copy of the player's current state.
+     */
+    static PlayerSnapshot of(PlayerState player) {
+        return new PlayerSnapshot(player.getSeat(), player.getName(), player.isCpu(), player.status,
+                player.pointRoll, player.consecutiveRolls, player.score);
+    }
+
+    /**
+     * @param player The player that this copy was taken from.
+     * @return Whether the player is still in the state of this copy.
+     */
+    boolean matches(PlayerState player) {
+        return status == player.status && pointRoll == player.pointRoll
+                && consecutiveRolls == player.consecutiveRolls && score == player.score;
+    }
+}
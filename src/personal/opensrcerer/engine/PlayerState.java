@@ -0,0 +1,134 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.engine;
+
+/**
+ * A plain player model that holds everything the rules need to know about a player.
+ * Contains no GUI elements, so it can be used to run games without a display.
+ */
+public class PlayerState {
+
+    /**
+     * The player's seat at the table, starting from 0.
+     */
+    private final int seat;
+
+    /**
+     * The player's name.
+     */
+    private final String name;
+
+    /**
+     * Shows whether the player is a bot.
+     */
+    private final boolean cpu;
+
+    /**
+     * Contains the point dice for a player as a roll index.
+     */
+    int pointRoll = Dice.UNROLLED;
+
+    /**
+     * Shows the player's status in relation to the round.
+     */
+    PlayerStatus status = PlayerStatus.AWAITING_POINT_ROLL;
+
+    /**
+     * Shows how many times a player has consecutively rolled without changing their score.
+     */
+    int consecutiveRolls;
+
+    /**
+     * Contains the player's score.
+     */
+    int score;
+
+    /**
+     * Create a new player state.
+     * @param seat The player's seat at the table, starting from 0.
+     * @param name The player's name.
+     * @param cpu Whether the player is a bot.
+     */
+    public PlayerState(int seat, String name, boolean cpu) {
+        this.seat = seat;
+        this.name = name;
+        this.cpu = cpu;
+    }
+
+    /**
+     * @return The player's seat at the table.
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * @return The player's name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return If the player is a bot.
+     */
+    public boolean isCpu() {
+        return cpu;
+    }
+
+    /**
+     * @return The Player's status.
+     */
+    public PlayerStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return The point dice for this player as a roll index, or Dice.UNROLLED if they are not set.
+     */
+    public int getPointRoll() {
+        return pointRoll;
+    }
+
+    /**
+     * @return How many times the player has rolled this round.
+     */
+    public int getConsecutiveRolls() {
+        return consecutiveRolls;
+    }
+
+    /**
+     * @return The player's score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Puts the player back into the state of a snapshot that was taken of them.
+     * @param saved The snapshot of the player.
+     */
+    void restore(PlayerSnapshot saved) {
+        this.status = saved.status();
+        this.pointRoll = saved.pointRoll();
+        this.consecutiveRolls = saved.consecutiveRolls();
+        this.score = saved.score();
+    }
+
+    /**
+     * Sets the player's status to a AWAITING_POINT_ROLL, reset consecutive rolls and the point dice.
+     * @param resetScore If the score should be reset.
+     */
+    public void resetStatus(boolean resetScore) {
+        this.status = PlayerStatus.AWAITING_POINT_ROLL;
+        this.pointRoll = Dice.UNROLLED;
+        this.consecutiveRolls = 0;
+        if (resetScore) {
+            this.score = 0;
+        }
+    }
+}
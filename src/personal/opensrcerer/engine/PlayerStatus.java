@@ -4,7 +4,7 @@
  * GNU © 2021 Daniel Stefani / OpenSrcerer
  */
 
-package personal.opensrcerer.util;
+package personal.opensrcerer.engine;
 
 /**
  * Used to better identify players and their current statuses.
@@ -0,0 +1,135 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.engine;
+
+import java.util.Arrays;
+
+/**
+ * The players of a GameSnapshot, ordered by their seat, stored as a tree where every node has 32 children.
+ * Changing a seat copies only the few nodes on the path to it, and shares every other node with the vector it
+ * was changed from. This is why thousands of versions of a large table cost little more memory than one.
+ * Never changes once it has been built.
+ */
+final class PlayerVector {
+
+    /**
+     * The number of bits of a seat that select a child of a node.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * The most children of a node.
+     */
+    private static final int WIDTH = 1 << BITS;
+
+    /**
+     * Selects the bits of a seat for one level of the tree.
+     */
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * The number of seats.
+     */
+    private final int size;
+
+    /**
+     * How far a seat is shifted to select a child of the root. 0 if the root holds the players.
+     */
+    private final int shift;
+
+    /**
+     * The top node of the tree.
+     */
+    private final Object[] root;
+
+    /**
+     * Create a new vector from its tree.
+     * @param size The number of seats.
+     * @param shift How far a seat is shifted to select a child of the root.
+     * @param root The top node of the tree.
+     */
+    private PlayerVector(int size, int shift, Object[] root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    /**
+     * @param players The players, ordered by their seat.
+     * @return A new vector of the players.
+     */
+    static PlayerVector of(PlayerSnapshot[] players) {
+        // Cut the players into leaves, then join the nodes of every level until one node is left
+        Object[][] level = split(players);
+        int shift = 0;
+        while (level.length > 1) {
+            level = split(level);
+            shift += BITS;
+        }
+        return new PlayerVector(players.length, shift, level[0]);
+    }
+
+    /**
+     * @param seat A seat.
+     * @return The player on that seat.
+     */
+    PlayerSnapshot get(int seat) {
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(seat >>> level) & MASK];
+        }
+        return (PlayerSnapshot) node[seat & MASK];
+    }
+
+    /**
+     * @param seat A seat.
+     * @param player The new player on that seat.
+     * @return A vector like this one, but with the new player on the seat. This vector does not change.
+     */
+    PlayerVector with(int seat, PlayerSnapshot player) {
+        return new PlayerVector(size, shift, with(root, shift, seat, player));
+    }
+
+    /**
+     * @return The number of seats.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Copies a node, and the nodes under it on the path to a seat.
+     * @param node The node to copy.
+     * @param level How far a seat is shifted to select a child of the node.
+     * @param seat The seat.
+     * @param player The new player on that seat.
+     * @return The copy of the node.
+     */
+    private static Object[] with(Object[] node, int level, int seat, PlayerSnapshot player) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[seat & MASK] = player;
+        } else {
+            int child = (seat >>> level) & MASK;
+            copy[child] = with((Object[]) node[child], level - BITS, seat, player);
+        }
+        return copy;
+    }
+
+    /**
+     * @param children The nodes or players of a level of the tree.
+     * @return The nodes of the level above, each holding up to 32 of them in order.
+     */
+    private static Object[][] split(Object[] children) {
+        Object[][] nodes = new Object[Math.max((children.length + MASK) >>> BITS, 1)][];
+        for (int node = 0; node < nodes.length; ++node) {
+            int from = node << BITS;
+            nodes[node] = Arrays.copyOfRange(children, from, Math.min(from + WIDTH, children.length), Object[].class);
+        }
+        return nodes;
+    }
+}
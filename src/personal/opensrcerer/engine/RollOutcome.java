@@ -0,0 +1,84 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.engine;
+
+/**
+ * Describes what a single roll did to a player, as decided by the RoundRules.
+ * Every outcome carries its scoring, so that applying it needs no branching.
+ */
+public enum RollOutcome {
+    /**
+     * The point roll was a 7 or an 11. (+10 Points)
+     */
+    NATURAL(10, 0, PlayerStatus.FINISHED_ROUND),
+
+    /**
+     * The point roll was a 2, 3 or 12. (-5 Points)
+     */
+    CRAPS(-5, 0, PlayerStatus.FINISHED_ROUND),
+
+    /**
+     * The point roll set the player's point dice, and the player keeps rolling.
+     */
+    POINT_SET(0, 0, PlayerStatus.PLAYING),
+
+    /**
+     * The player rolled their point sum again. (10 - consecutive rolls Points)
+     */
+    POINT_MADE(10, 1, PlayerStatus.FINISHED_ROUND),
+
+    /**
+     * The player rolled a 7 while chasing their point. (-3 Points)
+     */
+    SEVEN_OUT(-3, 0, PlayerStatus.FINISHED_ROUND),
+
+    /**
+     * The player rolled something else while chasing their point and keeps rolling.
+     */
+    NO_CHANGE(0, 0, PlayerStatus.PLAYING);
+
+    /**
+     * The score this outcome gives before the roll penalty.
+     */
+    final int baseScore;
+
+    /**
+     * How many points are taken off for every roll made this round.
+     */
+    final int rollPenalty;
+
+    /**
+     * The status of the player after this outcome.
+     */
+    final PlayerStatus nextStatus;
+
+    /**
+     * @param baseScore The score this outcome gives before the roll penalty.
+     * @param rollPenalty How many points are taken off for every roll made this round.
+     * @param nextStatus The status of the player after this outcome.
+     */
+    RollOutcome(int baseScore, int rollPenalty, PlayerStatus nextStatus) {
+        this.baseScore = baseScore;
+        this.rollPenalty = rollPenalty;
+        this.nextStatus = nextStatus;
+    }
+
+    /**
+     * @param consecutiveRolls The number of rolls the player has made this round, including this one.
+     * @return The score change that this outcome gives.
+     */
+    public int scoreFor(int consecutiveRolls) {
+        return baseScore - rollPenalty * consecutiveRolls;
+    }
+
+    /**
+     * @return Whether this outcome finishes the player's round.
+     */
+    public boolean finishesRound() {
+        return nextStatus == PlayerStatus.FINISHED_ROUND;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.engine;
+
+/**
+ * The Snake Eyes scoring rules, written as a state machine over PlayerStatus.
+ * <br>
+ * AWAITING_POINT_ROLL -> FINISHED_ROUND on a 7 or 11 (+10) or a 2, 3 or 12 (-5), otherwise -> PLAYING. <br>
+ * PLAYING -> FINISHED_ROUND on the point sum (10 - consecutive rolls) or a 7 (-3), otherwise stays PLAYING.
+ * <br>
+ * Every decision is precomputed into tables indexed by roll, so that applying a roll does not allocate.
+ */
+public final class RoundRules {
+
+    /**
+     * The outcome of a point roll, indexed by roll.
+     */
+    private static final RollOutcome[] POINT_ROLL = new RollOutcome[Dice.OUTCOMES];
+
+    /**
+     * The outcome of a roll while chasing the point, indexed by point roll and then by roll.
+     */
+    private static final RollOutcome[][] CHASE = new RollOutcome[Dice.OUTCOMES][Dice.OUTCOMES];
+
+    static {
+        for (int roll = 0; roll < Dice.OUTCOMES; ++roll) {
+            POINT_ROLL[roll] = pointRollOutcome(Dice.sum(roll));
+        }
+        for (int point = 0; point < Dice.OUTCOMES; ++point) {
+            for (int roll = 0; roll < Dice.OUTCOMES; ++roll) {
+                CHASE[point][roll] = chaseOutcome(Dice.sum(point), Dice.sum(roll));
+            }
+        }
+    }
+
+    /**
+     * Applies a roll to a player, changing their score and status.
+     * @param player The player that rolled.
+     * @param roll The roll index, as given by Dice.
+     * @return What the roll did to the player.
+     * @throws IllegalArgumentException If the player has already finished the round.
+     */
+    public static RollOutcome roll(PlayerState player, int roll) {
+        if (player.status == PlayerStatus.FINISHED_ROUND) {
+            throw new IllegalArgumentException("Player who has finished the round cannot be rolling!");
+        }
+
+        // Increase the number of rolls that were made
+        int rolls = ++player.consecutiveRolls;
+        RollOutcome outcome = outcome(player.status, player.pointRoll, roll);
+
+        if (outcome == RollOutcome.POINT_SET) {
+            player.pointRoll = roll;
+        }
+        player.score += outcome.baseScore - outcome.rollPenalty * rolls;
+        player.status = outcome.nextStatus;
+        return outcome;
+    }
+
+    /**
+     * Looks up what a roll would do, without changing any player.
+     * @param status The status of the player before the roll. Must not be FINISHED_ROUND.
+     * @param pointRoll The point dice of the player as a roll index, used only while PLAYING.
+     * @param roll The roll index.
+     * @return The outcome of the roll.
+     */
+    public static RollOutcome outcome(PlayerStatus status, int pointRoll, int roll) {
+        return (status == PlayerStatus.AWAITING_POINT_ROLL) ? POINT_ROLL[roll] : CHASE[pointRoll][roll];
+    }
+
+    /**
+     * @param diceSum The sum of the dice.
+     * @return The outcome of the first roll of the round.
+     */
+    private static RollOutcome pointRollOutcome(int diceSum) {
+        if (diceSum == 7 || diceSum == 11) {
+            return RollOutcome.NATURAL;
+        } else if (diceSum == 2 || diceSum == 3 || diceSum == 12) {
+            return RollOutcome.CRAPS;
+        }
+        return RollOutcome.POINT_SET;
+    }
+
+    /**
+     * @param pointSum The sum of the point dice.
+     * @param diceSum The sum of the dice.
+     * @return The outcome of the other rolls of the round.
+     */
+    private static RollOutcome chaseOutcome(int pointSum, int diceSum) {
+        if (diceSum == pointSum) {
+            return RollOutcome.POINT_MADE;
+        } else if (diceSum == 7) {
+            return RollOutcome.SEVEN_OUT;
+        }
+        return RollOutcome.NO_CHANGE;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.engine;
+
+import java.util.Arrays;
+
+/**
+ * Passes turns between the seats of a table in a circular fashion, skipping the seats that have finished the round.
+ * Seats are plain indices into an array of players, the seats that have finished are kept in a bitset,
+ * and nothing is allocated after the ring is created.
+ */
+public final class TurnRing {
+
+    /**
+     * The number of seats in the ring.
+     */
+    private final int size;
+
+    /**
+     * One bit for every seat, set if the seat has finished the round.
+     */
+    private final long[] finished;
+
+    /**
+     * The number of bits that are set in finished.
+     */
+    private int finishedCount;
+
+    /**
+     * The seat whose turn it is.
+     */
+    private int cursor;
+
+    /**
+     * Create a new ring where no seat has finished, and the turn is on the first seat.
+     * @param size The number of seats.
+     * @throws IllegalArgumentException If the number of seats is not positive.
+     */
+    public TurnRing(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("A table must have at least one seat!");
+        }
+        this.size = size;
+        this.finished = new long[(size + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * @return The seat whose turn it is.
+     */
+    public int current() {
+        return cursor;
+    }
+
+    /**
+     * Marks a seat as finished for this round. Marking a seat twice has no effect.
+     * @param seat The seat that has finished.
+     */
+    public void markFinished(int seat) {
+        long bit = 1L << seat; // Shifts only use the low six bits of the seat
+        int word = seat >>> 6;
+        if ((finished[word] & bit) == 0) {
+            finished[word] |= bit;
+            ++finishedCount;
+        }
+    }
+
+    /**
+     * @param seat A seat.
+     * @return Whether the seat has finished this round.
+     */
+    public boolean isFinished(int seat) {
+        return (finished[seat >>> 6] & (1L << seat)) != 0;
+    }
+
+    /**
+     * @return The number of seats that have finished this round.
+     */
+    public int getFinishedCount() {
+        return finishedCount;
+    }
+
+    /**
+     * @return Whether every seat has finished this round.
+     */
+    public boolean allFinished() {
+        return finishedCount == size;
+    }
+
+    /**
+     * Gives the turn to the closest next seat that has not finished the round, which may be the current seat
+     * if every other seat has finished.
+     * @return True if the turn was given, false if every seat has finished and the turn did not move.
+     */
+    public boolean advance() {
+        if (allFinished()) {
+            return false;
+        }
+        int seat = nextUnfinished(cursor + 1);
+        cursor = (seat < 0) ? nextUnfinished(0) : seat; // Wrap around to the first seats
+        return true;
+    }
+
+    /**
+     * Gives the turn to a seat, whether it has finished the round or not.
+     * @param seat The seat that gets the turn.
+     */
+    public void moveTo(int seat) {
+        cursor = seat;
+    }
+
+    /**
+     * Gives the turn back to the first seat.
+     */
+    public void setToFirst() {
+        cursor = 0;
+    }
+
+    /**
+     * Starts a new round: no seat has finished, and the turn is on the first seat.
+     */
+    public void reset() {
+        Arrays.fill(finished, 0L);
+        finishedCount = 0;
+        cursor = 0;
+    }
+
+    /**
+     * @return The number of seats in the ring.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param from The first seat to look at.
+     * @return The first seat from the given one on that has not finished, or -1 if there is none before the end.
+     */
+    private int nextUnfinished(int from) {
+        int word = from >>> 6;
+        if (word >= finished.length) {
+            return -1;
+        }
+        long open = ~finished[word] & (-1L << from); // Unfinished seats of the word, from the given one on
+        while (open == 0) {
+            if (++word == finished.length) {
+                return -1;
+            }
+            open = ~finished[word];
+        }
+        int seat = (word << 6) + Long.numberOfTrailingZeros(open);
+        return (seat < size) ? seat : -1; // Bits past the last seat are never set
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.eventLog;
+
+import personal.opensrcerer.engine.RollOutcome;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static personal.opensrcerer.eventLog.EventLogWriter.*;
+
+/**
+ * Reads the events of a log that was written by an EventLogWriter, one at a time and in order.
+ * The reader does not create any objects per event, the details of the current event are read with its getters.
+ * Checksums are skipped, they are checked by the ReplayVerifier.
+ */
+public final class EventLogReader {
+
+    /**
+     * Every RollOutcome, by its ordinal.
+     */
+    private static final RollOutcome[] OUTCOMES = RollOutcome.values();
+
+    /**
+     * The directory that contains the segment files, or null if only a single buffer is read.
+     */
+    private final Path directory;
+
+    /**
+     * The index of the segment that is being read.
+     */
+    private int segmentIndex;
+
+    /**
+     * The mapped contents of the segment that is being read, or null if there are no more segments.
+     */
+    private ByteBuffer segment;
+
+    /**
+     * The type of the current event.
+     */
+    private EventType type;
+
+    /**
+     * The number of players in the current game.
+     */
+    private int players;
+
+    /**
+     * The number of rounds in the current game.
+     */
+    private int rounds;
+
+    /**
+     * The seed of the current game.
+     */
+    private long seed;
+
+    /**
+     * The seat of the last roller in this round, or -1 if nobody has rolled yet.
+     */
+    private int seat = -1;
+
+    /**
+     * The roll index of the last roll.
+     */
+    private int roll;
+
+    /**
+     * The outcome of the last roll.
+     */
+    private RollOutcome outcome;
+
+    /**
+     * The final score of every player in the current game, by their seat.
+     */
+    private int[] scores = new int[0];
+
+    /**
+     * Create a new reader that starts at the first segment.
+     * @param directory The directory that contains the segment files.
+     * @throws IOException If the first segment could not be read.
+     */
+    public EventLogReader(Path directory) throws IOException {
+        this.directory = directory;
+        openSegment();
+    }
+
+    /**
+     * Create a new reader for whole records in a buffer.
+     * @param records The records to read, from the buffer's position to its limit.
+     */
+    EventLogReader(ByteBuffer records) {
+        this.directory = null;
+        read(records);
+    }
+
+    /**
+     * Starts reading whole records from another buffer. Only for readers that were created for a buffer.
+     * @param records The records to read, from the buffer's position to its limit.
+     */
+    void read(ByteBuffer records) {
+        this.segment = records;
+        this.seat = -1;
+    }
+
+    /**
+     * Advances to the next event.
+     * @return True if there was another event, false if the end of the log has been reached.
+     * @throws IOException If a segment could not be read, or contains a corrupt event.
+     */
+    public boolean next() throws IOException {
+        while (segment != null) {
+            if (!segment.hasRemaining()) {
+                nextSegment();
+                continue;
+            }
+
+            int b = segment.get() & 0xFF;
+            int payload = b & PAYLOAD_MASK;
+            switch (b & TAG_MASK) {
+                case TAG_ROLL -> {
+                    type = EventType.ROLL;
+                    roll = payload;
+                    if (++seat == players) {
+                        seat = 0;
+                    }
+                    outcome = RollOutcome.NO_CHANGE;
+                }
+                case TAG_ROLL_SKIP -> {
+                    type = EventType.ROLL;
+                    roll = payload;
+                    seat += getVarint();
+                    if (seat >= players) {
+                        seat %= players; // The turn wrapped around to the first seats
+                    }
+                    outcome = RollOutcome.NO_CHANGE;
+                }
+                case TAG_OUTCOME -> {
+                    if (payload >= OUTCOMES.length) {
+                        throw corrupt(b);
+                    }
+                    type = EventType.OUTCOME;
+                    outcome = OUTCOMES[payload];
+                }
+                default -> {
+                    switch (payload) {
+                        case END_OF_SEGMENT -> {
+                            nextSegment();
+                            continue;
+                        }
+                        case GAME_START -> {
+                            type = EventType.GAME_START;
+                            getVarint(); // The length of the body is only needed to skip over games
+                            players = getVarint();
+                            rounds = getVarint();
+                            seed = segment.getLong();
+                            seat = -1;
+                            if (scores.length != players) {
+                                scores = new int[players];
+                            }
+                        }
+                        case ROUND -> {
+                            type = EventType.ROUND;
+                            seat = -1;
+                        }
+                        case GAME_END -> {
+                            type = EventType.GAME_END;
+                            for (int player = 0; player < players; ++player) {
+                                int zigzag = getVarint();
+                                scores[player] = (zigzag >>> 1) ^ -(zigzag & 1);
+                            }
+                            segment.position(segment.position() + CHECKSUM_SIZE);
+                        }
+                        default -> throw corrupt(b);
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The type of the current event.
+     */
+    public EventType getType() {
+        return type;
+    }
+
+    /**
+     * @return The number of players in the current game.
+     */
+    public int getPlayers() {
+        return players;
+    }
+
+    /**
+     * @return The number of rounds in the current game.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @return The seed that the dice of the current game are rolled from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param seat The seat of a player.
+     * @return The final score of the player, as it was logged when the game ended.
+     */
+    public int getScore(int seat) {
+        return scores[seat];
+    }
+
+    /**
+     * @return The seat of the player that rolled last.
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * @return The roll index of the last roll.
+     */
+    public int getRoll() {
+        return roll;
+    }
+
+    /**
+     * @return The outcome of the last roll, NO_CHANGE until its OUTCOME event has been read.
+     */
+    public RollOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Moves on to the segment after the current one.
+     * @throws IOException If the segment could not be read.
+     */
+    private void nextSegment() throws IOException {
+        ++segmentIndex;
+        openSegment();
+    }
+
+    /**
+     * Maps the segment with the current index, or sets it to null if it does not exist.
+     * @throws IOException If the segment could not be read.
+     */
+    private void openSegment() throws IOException {
+        if (directory == null) {
+            segment = null;
+            return;
+        }
+        Path path = segmentPath(directory, segmentIndex);
+        if (!Files.exists(path)) {
+            segment = null;
+            return;
+        }
+        // The mapping stays valid after the file is closed
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * @return A positive number that was written seven bits at a time.
+     */
+    private int getVarint() {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = segment.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * @param b The byte that could not be read.
+     * @return An exception that shows where the log is corrupt.
+     */
+    private IOException corrupt(int b) {
+        return new IOException("Corrupt event 0x" + Integer.toHexString(b) + " in segment " + segmentIndex +
+                " at byte " + (segment.position() - 1) + "!");
+    }
+}
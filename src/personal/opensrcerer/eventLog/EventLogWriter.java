@@ -0,0 +1,395 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.eventLog;
+
+import personal.opensrcerer.engine.RollOutcome;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Appends the events of games to a log, made of memory-mapped segment files in a directory.
+ * <br>
+ * Every game is kept in memory while it is played, then appended as one record:
+ * a GAME_START byte, a varint of the length of the game's body, the body, and a checksum.
+ * The body starts with varints of the players and rounds and the 8 bytes of the game's seed, followed by its events.
+ * Every event starts with a byte, whose top two bits are a tag and whose low six bits are a payload:
+ * <ul>
+ *     <li>ROLL: the payload is the roll index, and the roller is the seat after the previous roller.</li>
+ *     <li>ROLL_SKIP: the payload is the roll index, followed by a varint of how many seats the turn moved.</li>
+ *     <li>OUTCOME: the payload is the RollOutcome of the previous roll. Only written if the roll changed
+ *     the player's status.</li>
+ *     <li>CONTROL: the payload is a control code. GAME_END is followed by a zigzag varint of every player's score,
+ *     and ends the body.</li>
+ * </ul>
+ * The checksum is a CRC32C of the previous record's checksum and this record's body, so the records of a segment
+ * form a chain. A zero byte marks the end of a segment, as unwritten parts of a segment are zeroes.
+ * Games never span segments, so every segment can be read on its own.
+ * A full 9-round game of 8 players takes a little under 500 bytes.
+ * <br>
+ * A writer is not thread-safe, every thread that writes should have its own log directory.
+ */
+public final class EventLogWriter implements Closeable {
+
+    /**
+     * The default size of a segment file, 64 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    static final int TAG_CONTROL = 0;
+    static final int TAG_ROLL = 1 << 6;
+    static final int TAG_ROLL_SKIP = 2 << 6;
+    static final int TAG_OUTCOME = 3 << 6;
+    static final int TAG_MASK = 3 << 6;
+    static final int PAYLOAD_MASK = (1 << 6) - 1;
+
+    static final int END_OF_SEGMENT = 0;
+    static final int GAME_START = 1;
+    static final int ROUND = 2;
+    static final int GAME_END = 3;
+
+    /**
+     * The size of the checksum after every record.
+     */
+    static final int CHECKSUM_SIZE = Integer.BYTES;
+
+    /**
+     * The largest event that can be written: a roll, a varint of five bytes and an outcome.
+     */
+    private static final int MAX_EVENT_SIZE = 7;
+
+    /**
+     * The directory that contains the segment files.
+     */
+    private final Path directory;
+
+    /**
+     * The size of every segment file.
+     */
+    private final int segmentSize;
+
+    /**
+     * Calculates the checksum of every record.
+     */
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * The body of the game that is being played.
+     */
+    private byte[] game = new byte[1024];
+
+    /**
+     * The length of the body of the game that is being played.
+     */
+    private int length;
+
+    /**
+     * The index of the segment that is being written.
+     */
+    private int segmentIndex;
+
+    /**
+     * The file of the segment that is being written.
+     */
+    private FileChannel channel;
+
+    /**
+     * The mapped contents of the segment that is being written.
+     */
+    private MappedByteBuffer segment;
+
+    /**
+     * The position of the next byte in the segment.
+     */
+    private int position;
+
+    /**
+     * The checksum of the last record in the segment, or 0 if the segment is empty.
+     */
+    private int chain;
+
+    /**
+     * The number of bytes written to earlier segments.
+     */
+    private long previousBytes;
+
+    /**
+     * The number of players in the current game.
+     */
+    private int players;
+
+    /**
+     * The seat of the previous roller in this round, or -1 if nobody has rolled yet.
+     */
+    private int lastSeat = -1;
+
+    /**
+     * Create a new writer with the default segment size.
+     * @param directory The directory to write segment files in. Existing segments are kept and appended to.
+     * @throws IOException If the directory or the first segment could not be created.
+     */
+    public EventLogWriter(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Create a new writer.
+     * @param directory The directory to write segment files in. Existing segments are kept and appended to.
+     * @param segmentSize The size of every segment file. Every game must fit in a segment.
+     * @throws IOException If the directory or the first segment could not be created.
+     */
+    public EventLogWriter(Path directory, int segmentSize) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        // Never overwrite existing segments, start after the last one
+        while (Files.exists(segmentPath(directory, segmentIndex))) {
+            ++segmentIndex;
+        }
+        openSegment();
+    }
+
+    /**
+     * Logs the start of a new game.
+     * @param players The number of players in the game.
+     * @param rounds The number of rounds in the game.
+     * @param seed The seed that the game's dice are rolled from.
+     */
+    public void gameStart(int players, int rounds, long seed) {
+        length = 0;
+        putVarint(players);
+        putVarint(rounds);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            put((int) (seed >>> shift));
+        }
+        this.players = players;
+        this.lastSeat = -1;
+    }
+
+    /**
+     * Logs a roll, and the status change that it caused.
+     * @param seat The seat of the player that rolled.
+     * @param roll The roll index, as given by Dice.
+     * @param outcome What the roll did to the player.
+     */
+    public void roll(int seat, int roll, RollOutcome outcome) {
+        ensureCapacity(MAX_EVENT_SIZE);
+        int delta = seat - lastSeat;
+        if (delta <= 0) {
+            delta += players; // The turn wrapped around to the first seats
+        }
+        if (delta == 1) {
+            put(TAG_ROLL | roll);
+        } else {
+            put(TAG_ROLL_SKIP | roll);
+            putVarint(delta);
+        }
+        lastSeat = seat;
+
+        if (outcome != RollOutcome.NO_CHANGE) {
+            put(TAG_OUTCOME | outcome.ordinal());
+        }
+    }
+
+    /**
+     * Logs that the game has advanced to the next round.
+     */
+    public void round() {
+        ensureCapacity(1);
+        put(TAG_CONTROL | ROUND);
+        lastSeat = -1;
+    }
+
+    /**
+     * Logs that the game has finished, and appends it to the log.
+     * @param scores The final score of every player, by their seat.
+     */
+    public void gameEnd(int[] scores) {
+        ensureCapacity(1 + 5 * scores.length);
+        put(TAG_CONTROL | GAME_END);
+        for (int score : scores) {
+            putVarint((score << 1) ^ (score >> 31)); // Zigzag, so that small negative scores stay small
+        }
+        appendGame();
+    }
+
+    /**
+     * @return The number of bytes of finished games that have been written by this writer.
+     */
+    public long size() {
+        return previousBytes + position;
+    }
+
+    /**
+     * Writes the log to the disk and closes the current segment, trimming it to the bytes that were written.
+     * A game that has not ended is not written.
+     * @throws IOException If the segment could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        closeSegment();
+    }
+
+    /**
+     * Appends the game that has just ended to the segment, starting a new segment if it does not fit.
+     * @throws IllegalStateException If the game is larger than a segment.
+     */
+    private void appendGame() {
+        int recordSize = 1 + varintSize(length) + length + CHECKSUM_SIZE;
+        if (recordSize > segmentSize) {
+            throw new IllegalStateException("A game of " + recordSize + " bytes does not fit in a segment!");
+        }
+        if (position + recordSize > segmentSize) {
+            try {
+                closeSegment();
+                previousBytes += position;
+                ++segmentIndex;
+                openSegment();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not start a new event log segment!", ex);
+            }
+        }
+
+        segment.put(position++, (byte) (TAG_CONTROL | GAME_START));
+        int value = length;
+        while ((value & ~0x7F) != 0) {
+            segment.put(position++, (byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        segment.put(position++, (byte) value);
+        segment.put(position, game, 0, length);
+        position += length;
+
+        chain = checksum(crc, chain, game, 0, length);
+        segment.putInt(position, chain);
+        position += CHECKSUM_SIZE;
+    }
+
+    /**
+     * Grows the body of the game if it cannot hold a number of bytes more.
+     * @param bytes The number of bytes that are about to be written.
+     */
+    private void ensureCapacity(int bytes) {
+        if (length + bytes > game.length) {
+            game = Arrays.copyOf(game, Math.max(game.length * 2, length + bytes));
+        }
+    }
+
+    /**
+     * Creates and maps the segment with the current index.
+     * @throws IOException If the segment could not be created.
+     */
+    private void openSegment() throws IOException {
+        channel = FileChannel.open(segmentPath(directory, segmentIndex),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        position = 0;
+        chain = 0;
+    }
+
+    /**
+     * Writes the current segment to the disk and closes it.
+     * @throws IOException If the segment could not be written.
+     */
+    private void closeSegment() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        segment.force();
+        try {
+            channel.truncate(position);
+        } catch (IOException ex) {
+            // Some systems cannot shrink a mapped file, the zeroes after the last event mark its end anyway
+        }
+        channel.close();
+    }
+
+    /**
+     * @param b The byte to write to the body of the game.
+     */
+    private void put(int b) {
+        game[length++] = (byte) b;
+    }
+
+    /**
+     * Writes a positive number to the body of the game in as few bytes as possible, seven bits at a time.
+     * @param value The number to write.
+     */
+    private void putVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            put((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        put(value);
+    }
+
+    /**
+     * @param value A positive number.
+     * @return The number of bytes that the number takes as a varint.
+     */
+    private static int varintSize(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * Calculates the checksum of a record, chained to the checksum of the record before it.
+     * @param crc The CRC32C to calculate with.
+     * @param previous The checksum of the previous record, or 0 if there is none.
+     * @param body The array that contains the record's body.
+     * @param offset The offset of the body in the array.
+     * @param length The length of the body.
+     * @return The checksum of the record.
+     */
+    static int checksum(CRC32C crc, int previous, byte[] body, int offset, int length) {
+        startChecksum(crc, previous);
+        crc.update(body, offset, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Calculates the checksum of a record, chained to the checksum of the record before it.
+     * @param crc The CRC32C to calculate with.
+     * @param previous The checksum of the previous record, or 0 if there is none.
+     * @param body The record's body, from its position to its limit. Its position is moved to its limit.
+     * @return The checksum of the record.
+     */
+    static int checksum(CRC32C crc, int previous, ByteBuffer body) {
+        startChecksum(crc, previous);
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Resets a CRC32C and adds the checksum of the previous record to it.
+     * @param crc The CRC32C to calculate with.
+     * @param previous The checksum of the previous record, or 0 if there is none.
+     */
+    private static void startChecksum(CRC32C crc, int previous) {
+        crc.reset();
+        crc.update(previous >>> 24);
+        crc.update(previous >>> 16);
+        crc.update(previous >>> 8);
+        crc.update(previous);
+    }
+
+    /**
+     * @param directory The directory that contains the segment files.
+     * @param index The index of a segment.
+     * @return The path of the segment file.
+     */
+    static Path segmentPath(Path directory, int index) {
+        return directory.resolve(String.format("segment-%06d.log", index));
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.eventLog;
+
+/**
+ * The kinds of events that are kept in an event log.
+ */
+public enum EventType {
+    /**
+     * A new game has started, with a number of players and rounds.
+     */
+    GAME_START,
+
+    /**
+     * A player has rolled the dice.
+     */
+    ROLL,
+
+    /**
+     * The last roll has changed the status of the player that rolled it.
+     */
+    OUTCOME,
+
+    /**
+     * The game has advanced to the next round.
+     */
+    ROUND,
+
+    /**
+     * The game has finished.
+     */
+    GAME_END
+}
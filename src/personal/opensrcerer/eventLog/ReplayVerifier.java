@@ -0,0 +1,412 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.eventLog;
+
+import personal.opensrcerer.engine.Dice;
+import personal.opensrcerer.engine.GameEngine;
+import personal.opensrcerer.engine.PlayerState;
+import personal.opensrcerer.engine.RollOutcome;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.CRC32C;
+
+import static personal.opensrcerer.eventLog.EventLogWriter.*;
+
+/**
+ * Checks a recorded log against the current rules, without any GUI or RequestDispatcher.
+ * Every game's rolls are played again on a GameEngine, and the logged outcomes, turn order, round changes
+ * and final scores must match what the engine gives. Every game's chained checksum must also match,
+ * so a corrupt game is found by its position even if its events still look valid.
+ * <br>
+ * Games never span segments and every checksum only depends on the checksum stored before it,
+ * so games are checked in parallel on a ForkJoinPool.
+ */
+public final class ReplayVerifier {
+
+    /**
+     * Batches with at most this many games are checked on a single thread.
+     */
+    private static final int BATCH_SIZE = 4096;
+
+    /**
+     * Check a log on the common ForkJoinPool.
+     * @param directory The directory that contains the log's segment files.
+     * @return What was found in the log.
+     * @throws IOException If a segment could not be read.
+     */
+    public static VerificationResult verify(Path directory) throws IOException {
+        return verify(ForkJoinPool.commonPool(), directory);
+    }
+
+    /**
+     * Check a log on a given ForkJoinPool.
+     * @param pool The pool to check the games on.
+     * @param directory The directory that contains the log's segment files.
+     * @return What was found in the log.
+     * @throws IOException If a segment could not be read.
+     */
+    public static VerificationResult verify(ForkJoinPool pool, Path directory) throws IOException {
+        List<ForkJoinTask<VerificationResult>> segments = new ArrayList<>();
+        for (int index = 0; Files.exists(segmentPath(directory, index)); ++index) {
+            MappedByteBuffer segment;
+            try (FileChannel channel = FileChannel.open(segmentPath(directory, index), StandardOpenOption.READ)) {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            segments.add(pool.submit(new SegmentTask(segment, index)));
+        }
+
+        VerificationResult result = new VerificationResult();
+        for (ForkJoinTask<VerificationResult> segment : segments) {
+            result.merge(segment.join());
+        }
+        return result;
+    }
+
+    /**
+     * Finds where every game of a segment starts, then checks the games in batches.
+     */
+    private static final class SegmentTask extends RecursiveTask<VerificationResult> {
+
+        /**
+         * The contents of the segment.
+         */
+        private final ByteBuffer segment;
+
+        /**
+         * The index of the segment.
+         */
+        private final int index;
+
+        /**
+         * Create a new task for a segment.
+         * @param segment The contents of the segment.
+         * @param index The index of the segment.
+         */
+        private SegmentTask(ByteBuffer segment, int index) {
+            this.segment = segment;
+            this.index = index;
+        }
+
+        @Override
+        protected VerificationResult compute() {
+            // Skip from game to game by their lengths, without reading their events
+            int[] offsets = new int[1024];
+            int games = 0;
+            int position = 0;
+            String failure = null;
+            while (position < segment.limit() && segment.get(position) != END_OF_SEGMENT) {
+                if (segment.get(position) != (TAG_CONTROL | GAME_START)) {
+                    failure = "Segment " + index + ", byte " + position + ": a game should start here";
+                    break;
+                }
+                int length = 0;
+                int cursor = position + 1;
+                for (int shift = 0; cursor < segment.limit() && shift < 32; shift += 7) {
+                    int b = segment.get(cursor++);
+                    length |= (b & 0x7F) << shift;
+                    if (b >= 0) {
+                        break;
+                    }
+                }
+                long end = (long) cursor + length + CHECKSUM_SIZE;
+                if (length < 0 || end > segment.limit()) {
+                    failure = "Segment " + index + ", byte " + position + ": the game does not fit in the segment";
+                    break;
+                }
+
+                if (games == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, games * 2);
+                }
+                offsets[games++] = position;
+                position = (int) end;
+            }
+
+            VerificationResult result = new BatchTask(segment, index, offsets, 0, games, games, position).compute();
+            if (failure != null) {
+                result.recordFailure(segment.limit() - position, failure + ", the rest of the segment is skipped");
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Splits the games of a segment in halves until they are small enough to check on one thread.
+     */
+    private static final class BatchTask extends RecursiveTask<VerificationResult> {
+
+        /**
+         * The contents of the segment.
+         */
+        private final ByteBuffer segment;
+
+        /**
+         * The index of the segment.
+         */
+        private final int index;
+
+        /**
+         * Where every game of the segment starts.
+         */
+        private final int[] offsets;
+
+        /**
+         * The first game of this batch.
+         */
+        private final int from;
+
+        /**
+         * The game after the last game of this batch.
+         */
+        private final int to;
+
+        /**
+         * The number of games in the segment.
+         */
+        private final int count;
+
+        /**
+         * Where the game after the last game of the segment would start.
+         */
+        private final int end;
+
+        /**
+         * Create a new batch of games.
+         * @param segment The contents of the segment.
+         * @param index The index of the segment.
+         * @param offsets Where every game of the segment starts.
+         * @param from The first game of this batch.
+         * @param to The game after the last game of this batch.
+         * @param count The number of games in the segment.
+         * @param end Where the game after the last game of the segment would start.
+         */
+        private BatchTask(ByteBuffer segment, int index, int[] offsets, int from, int to, int count, int end) {
+            this.segment = segment;
+            this.index = index;
+            this.offsets = offsets;
+            this.from = from;
+            this.to = to;
+            this.count = count;
+            this.end = end;
+        }
+
+        @Override
+        protected VerificationResult compute() {
+            if (to - from <= BATCH_SIZE) {
+                return new GameChecker(segment).check(index, offsets, from, to, count, end);
+            }
+
+            int half = (from + to) >>> 1;
+            BatchTask left = new BatchTask(segment, index, offsets, from, half, count, end);
+            left.fork();
+            VerificationResult right = new BatchTask(segment, index, offsets, half, to, count, end).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Checks games one at a time on a single thread, reusing its buffers and players between games.
+     */
+    private static final class GameChecker {
+
+        /**
+         * A view of the segment that is moved from game to game.
+         */
+        private final ByteBuffer game;
+
+        /**
+         * Calculates the checksum of every game.
+         */
+        private final CRC32C crc = new CRC32C();
+
+        /**
+         * Reads the events of every game.
+         */
+        private final EventLogReader reader;
+
+        /**
+         * The players of the game that is being checked.
+         */
+        private PlayerState[] players = new PlayerState[0];
+
+        /**
+         * The number of rolls in the game that is being checked.
+         */
+        private int rolls;
+
+        /**
+         * Create a new checker.
+         * @param segment The contents of the segment.
+         */
+        private GameChecker(ByteBuffer segment) {
+            this.game = segment.duplicate();
+            this.reader = new EventLogReader(game);
+        }
+
+        /**
+         * Checks a batch of games.
+         * @param index The index of the segment.
+         * @param offsets Where every game of the segment starts.
+         * @param from The first game of this batch.
+         * @param to The game after the last game of this batch.
+         * @param count The number of games in the segment.
+         * @param end Where the game after the last game of the segment would start.
+         * @return What was found in the batch.
+         */
+        private VerificationResult check(int index, int[] offsets, int from, int to, int count, int end) {
+            VerificationResult result = new VerificationResult();
+            for (int i = from; i < to; ++i) {
+                int start = offsets[i];
+                int next = (i + 1 < count) ? offsets[i + 1] : end;
+                String failure = checkGame(offsets, i, start, next);
+                if (failure == null) {
+                    result.recordGame(rolls, next - start);
+                } else {
+                    result.recordFailure(next - start, "Segment " + index + ", byte " + start + " (game " + i + "): " +
+                            failure);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Checks the checksum of a game, then plays its rolls again.
+         * @param offsets Where every game of the segment starts.
+         * @param i The index of the game in the segment.
+         * @param start Where the game starts.
+         * @param next Where the game after it starts.
+         * @return What was wrong with the game, or null if it matches.
+         */
+        private String checkGame(int[] offsets, int i, int start, int next) {
+            rolls = 0;
+            game.limit(next);
+            int bodyEnd = next - CHECKSUM_SIZE;
+            int bodyStart = start + 1;
+            while (game.get(bodyStart++) < 0) {
+                // Skip the length of the body
+            }
+
+            int previous = (i == 0) ? 0 : game.getInt(offsets[i] - CHECKSUM_SIZE);
+            game.limit(bodyEnd).position(bodyStart);
+            int checksum = checksum(crc, previous, game);
+            game.limit(next);
+            if (checksum != game.getInt(bodyEnd)) {
+                return "the checksum does not match, the game has been changed or corrupted";
+            }
+
+            game.position(start);
+            reader.read(game);
+            try {
+                return replay();
+            } catch (IOException | RuntimeException ex) {
+                return "the game cannot be read, " + ex.getMessage();
+            }
+        }
+
+        /**
+         * Plays the rolls of the game at the reader's position again on a GameEngine,
+         * and compares the events that the engine gives with the logged events.
+         * @return What did not match, or null if the game matches.
+         * @throws IOException If the game contains a corrupt event.
+         */
+        private String replay() throws IOException {
+            if (!reader.next() || reader.getType() != EventType.GAME_START) {
+                return "the game does not start with GAME_START";
+            }
+            int size = reader.getPlayers();
+            int rounds = reader.getRounds();
+            if (size < 1 || rounds < 1) {
+                return "the game has " + size + " players and " + rounds + " rounds";
+            }
+            resetPlayers(size);
+            GameEngine engine = new GameEngine(players, rounds, reader.getSeed());
+
+            int round = 1; // The round that the log is in, which the engine leaves as soon as the round is over
+            RollOutcome expected = RollOutcome.NO_CHANGE; // The outcome that the next OUTCOME event should have
+            while (reader.next()) {
+                EventType type = reader.getType();
+                if (type != EventType.OUTCOME && expected != RollOutcome.NO_CHANGE) {
+                    return "round " + round + " is missing a " + expected + " outcome";
+                }
+
+                switch (type) {
+                    case ROLL -> {
+                        if (engine.isFinished() || engine.getCurrentRound() != round) {
+                            return "round " + round + " has a roll after every player has finished";
+                        }
+                        int turn = engine.getPlayerOnTurn().getSeat();
+                        if (reader.getSeat() != turn) {
+                            return "round " + round + " has seat " + reader.getSeat() + " rolling on the turn of seat " +
+                                    turn;
+                        }
+                        if (reader.getRoll() >= Dice.OUTCOMES) {
+                            return "round " + round + " has the roll index " + reader.getRoll();
+                        }
+                        expected = engine.roll(reader.getRoll());
+                        ++rolls;
+                    }
+                    case OUTCOME -> {
+                        if (reader.getOutcome() != expected) {
+                            return "round " + round + " logs " + reader.getOutcome() + " where the rules give " + expected;
+                        }
+                        expected = RollOutcome.NO_CHANGE;
+                    }
+                    case ROUND -> {
+                        if (engine.getCurrentRound() == round) {
+                            return "round " + round + " of " + rounds + " changes before it should";
+                        }
+                        ++round;
+                    }
+                    case GAME_END -> {
+                        if (!engine.isFinished()) {
+                            return "the game ends in round " + round + " of " + rounds + " before it should";
+                        }
+                        for (int seat = 0; seat < size; ++seat) {
+                            if (reader.getScore(seat) != players[seat].getScore()) {
+                                return "seat " + seat + " has a logged score of " + reader.getScore(seat) +
+                                        " where the rules give " + players[seat].getScore();
+                            }
+                        }
+                        return null;
+                    }
+                    case GAME_START -> {
+                        return "a new game starts before the game has ended";
+                    }
+                }
+            }
+            return "the game does not end with GAME_END";
+        }
+
+        /**
+         * Gets fresh players for a new game, reusing the players of the last game if it had as many.
+         * @param size The number of players in the new game.
+         */
+        private void resetPlayers(int size) {
+            if (players.length != size) {
+                players = new PlayerState[size];
+                for (int seat = 0; seat < size; ++seat) {
+                    players[seat] = new PlayerState(seat, "Player " + (seat + 1), true);
+                }
+                return;
+            }
+            for (PlayerState player : players) {
+                player.resetStatus(true);
+            }
+        }
+    }
+}
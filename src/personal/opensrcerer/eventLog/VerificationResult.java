@@ -0,0 +1,155 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.eventLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What the ReplayVerifier found in a log. Results of parts of a log can be merged together, in log order.
+ */
+public final class VerificationResult {
+
+    /**
+     * The number of failures that are kept with their description.
+     */
+    private static final int MAX_FAILURES = 100;
+
+    /**
+     * The first failures in the log, in log order.
+     */
+    private final List<String> failures = new ArrayList<>();
+
+    /**
+     * The number of games that were checked.
+     */
+    private long games;
+
+    /**
+     * The number of rolls that were replayed.
+     */
+    private long rolls;
+
+    /**
+     * The number of bytes of games that were checked.
+     */
+    private long bytes;
+
+    /**
+     * The number of games that did not match the rules or their checksum.
+     */
+    private long failed;
+
+    /**
+     * Record a game that matched the rules and its checksum.
+     * @param rolls The number of rolls in the game.
+     * @param bytes The size of the game's record.
+     */
+    void recordGame(int rolls, int bytes) {
+        ++this.games;
+        this.rolls += rolls;
+        this.bytes += bytes;
+    }
+
+    /**
+     * Record a game, or a part of a segment, that did not match the rules or its checksum.
+     * @param bytes The size of the game's record.
+     * @param failure Where the failure is, and what was wrong.
+     */
+    void recordFailure(int bytes, String failure) {
+        ++this.games;
+        ++this.failed;
+        this.bytes += bytes;
+        if (failures.size() < MAX_FAILURES) {
+            failures.add(failure);
+        }
+    }
+
+    /**
+     * Adds the findings of a later part of the log to this result.
+     * @param other The result of a later part of the log.
+     * @return This result, for chaining.
+     */
+    public VerificationResult merge(VerificationResult other) {
+        games += other.games;
+        rolls += other.rolls;
+        bytes += other.bytes;
+        failed += other.failed;
+        for (String failure : other.failures) {
+            if (failures.size() >= MAX_FAILURES) {
+                break;
+            }
+            failures.add(failure);
+        }
+        return this;
+    }
+
+    /**
+     * @return Whether every game matched the rules and its checksum.
+     */
+    public boolean isValid() {
+        return failed == 0;
+    }
+
+    /**
+     * @return The number of games that were checked.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * @return The number of rolls that were replayed.
+     */
+    public long getRolls() {
+        return rolls;
+    }
+
+    /**
+     * @return The number of bytes of games that were checked.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return The number of games that did not match the rules or their checksum.
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return The first failures in the log, in log order.
+     */
+    public List<String> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return A readable report of the verification.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Verified %d games // %d rolls // %d bytes%n", games, rolls, bytes));
+        if (isValid()) {
+            report.append("Every game matches the rules and its checksum.");
+            return report.toString();
+        }
+
+        report.append(String.format("%d games failed", failed));
+        if (failed > failures.size()) {
+            report.append(", the first ").append(failures.size()).append(" are");
+        }
+        report.append(':');
+        for (String failure : failures) {
+            report.append(System.lineSeparator()).append("  ").append(failure);
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.flightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a request is offered to a Mailbox.
+ */
+@Name("personal.opensrcerer.RequestEnqueue")
+@Label("Request Enqueue")
+@Category({"Snake Eyes", "Dispatcher"})
+@Description("A request was offered to a mailbox")
+public class RequestEnqueueEvent extends Event {
+
+    /**
+     * The class of the request.
+     */
+    @Label("Request")
+    public String request;
+
+    /**
+     * What happened to the request: enqueued, coalesced or rejected.
+     */
+    @Label("Result")
+    public String result;
+
+    /**
+     * The number of requests in the mailbox after the offer.
+     */
+    @Label("Queue Depth")
+    public int depth;
+}
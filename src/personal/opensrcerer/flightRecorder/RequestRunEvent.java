@@ -0,0 +1,43 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.flightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Spans a request from being taken out of its Mailbox until it has run.
+ */
+@Name("personal.opensrcerer.RequestRun")
+@Label("Request Run")
+@Category({"Snake Eyes", "Dispatcher"})
+@Description("A request was taken out of its mailbox and run")
+public class RequestRunEvent extends Event {
+
+    /**
+     * The class of the request.
+     */
+    @Label("Request")
+    public String request;
+
+    /**
+     * How long the request waited in the mailbox.
+     */
+    @Label("Waited")
+    @Timespan(Timespan.NANOSECONDS)
+    public long waited;
+
+    /**
+     * Whether the request threw an exception.
+     */
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,55 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.flightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Spans a roll in the GUI, from the start of its animation until the rules have been applied.
+ */
+@Name("personal.opensrcerer.Roll")
+@Label("Roll")
+@Category({"Snake Eyes", "Game"})
+@Description("A player rolled the dice in the GUI")
+public class RollEvent extends Event {
+
+    /**
+     * The name of the player that rolled.
+     */
+    @Label("Player")
+    public String player;
+
+    /**
+     * The round that the roll was made in.
+     */
+    @Label("Round")
+    public int round;
+
+    /**
+     * What the roll did to the player.
+     */
+    @Label("Outcome")
+    public String outcome;
+
+    /**
+     * The player's score after the roll.
+     */
+    @Label("Score")
+    public int score;
+
+    /**
+     * How long the roll animation played for.
+     */
+    @Label("Animation")
+    @Timespan(Timespan.NANOSECONDS)
+    public long animation;
+}
@@ -0,0 +1,47 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.flightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when every player has finished a round, and the next round starts or the game ends.
+ */
+@Name("personal.opensrcerer.Round")
+@Label("Round")
+@Category({"Snake Eyes", "Game"})
+@Description("A round ended")
+public class RoundEvent extends Event {
+
+    /**
+     * The round that ended.
+     */
+    @Label("Round")
+    public int round;
+
+    /**
+     * The total rounds of the game.
+     */
+    @Label("Total Rounds")
+    public int totalRounds;
+
+    /**
+     * The name of the player in first place.
+     */
+    @Label("Leader")
+    public String leader;
+
+    /**
+     * Whether the game ended with this round.
+     */
+    @Label("Game Finished")
+    public boolean gameFinished;
+}
@@ -0,0 +1,59 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.flightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a roll changes a player's score.
+ */
+@Name("personal.opensrcerer.ScoreChange")
+@Label("Score Change")
+@Category({"Snake Eyes", "Game"})
+@Description("A roll changed the score of a player")
+public class ScoreChangeEvent extends Event {
+
+    /**
+     * The name of the player.
+     */
+    @Label("Player")
+    public String player;
+
+    /**
+     * The seat of the player.
+     */
+    @Label("Seat")
+    public int seat;
+
+    /**
+     * The round that the roll was made in.
+     */
+    @Label("Round")
+    public int round;
+
+    /**
+     * What the roll did to the player.
+     */
+    @Label("Outcome")
+    public String outcome;
+
+    /**
+     * The points that the roll gave, which are negative for a loss.
+     */
+    @Label("Change")
+    public int change;
+
+    /**
+     * The player's score after the roll.
+     */
+    @Label("Score")
+    public int score;
+}
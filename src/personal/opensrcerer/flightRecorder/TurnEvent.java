@@ -0,0 +1,47 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.flightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when the turn passes to the next player within a round.
+ */
+@Name("personal.opensrcerer.Turn")
+@Label("Turn")
+@Category({"Snake Eyes", "Game"})
+@Description("The turn passed to the next player")
+public class TurnEvent extends Event {
+
+    /**
+     * The name of the player that had the turn.
+     */
+    @Label("From Player")
+    public String from;
+
+    /**
+     * The name of the player that has the turn now.
+     */
+    @Label("To Player")
+    public String to;
+
+    /**
+     * The current round.
+     */
+    @Label("Round")
+    public int round;
+
+    /**
+     * The number of players that have finished the round.
+     */
+    @Label("Finished Players")
+    public int finished;
+}
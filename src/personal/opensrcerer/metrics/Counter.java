@@ -0,0 +1,78 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count that only goes up, like the number of requests that were rejected.
+ * Threads add to their own cell of a LongAdder, so counting from many threads does not contend.
+ */
+public final class Counter implements Metric, CounterMBean {
+
+    /**
+     * The name of the metric.
+     */
+    private final String name;
+
+    /**
+     * A line that describes what the metric counts.
+     */
+    private final String help;
+
+    /**
+     * The count.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Create a new counter at 0. Use MetricsRegistry.counter to get one that is registered.
+     * @param name The name of the metric.
+     * @param help A line that describes what the metric counts.
+     */
+    Counter(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    /**
+     * Adds one to the count.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds to the count.
+     * @param amount The amount to add, which must not be negative.
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    @Override
+    public long getValue() {
+        return count.sum();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getHelp() {
+        return help;
+    }
+
+    @Override
+    public void expose(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        out.append(name).append(' ').append(getValue()).append('\n');
+    }
+}
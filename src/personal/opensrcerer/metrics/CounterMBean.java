@@ -0,0 +1,18 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.metrics;
+
+/**
+ * The view of a Counter over JMX.
+ */
+public interface CounterMBean {
+
+    /**
+     * @return The current count.
+     */
+    long getValue();
+}
@@ -0,0 +1,64 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A value that goes up and down, like the number of requests that are waiting. It is read when it is asked for.
+ */
+public final class Gauge implements Metric, GaugeMBean {
+
+    /**
+     * The name of the metric.
+     */
+    private final String name;
+
+    /**
+     * A line that describes what the metric shows.
+     */
+    private final String help;
+
+    /**
+     * Reads the current value.
+     */
+    private final LongSupplier value;
+
+    /**
+     * Create a new gauge. Use MetricsRegistry.gauge to get one that is registered.
+     * @param name The name of the metric.
+     * @param help A line that describes what the metric shows.
+     * @param value Reads the current value. Can be called from any thread.
+     */
+    Gauge(String name, String help, LongSupplier value) {
+        this.name = name;
+        this.help = help;
+        this.value = value;
+    }
+
+    @Override
+    public long getValue() {
+        return value.getAsLong();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getHelp() {
+        return help;
+    }
+
+    @Override
+    public void expose(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" gauge\n");
+        out.append(name).append(' ').append(getValue()).append('\n');
+    }
+}
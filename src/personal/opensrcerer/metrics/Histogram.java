@@ -0,0 +1,180 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts durations in buckets whose bounds are powers of two nanoseconds, like 1 µs, 2 µs, 4 µs and so on.
+ * Recording a duration is a few atomic additions and never allocates, so it can be used on the game's hot paths.
+ * Percentiles are given as the upper bound of their bucket, so they are at most twice the real value.
+ */
+public final class Histogram implements Metric, HistogramMBean {
+
+    /**
+     * The number of buckets. Bucket i counts the durations from 2^(i-1) up to 2^i - 1 nanoseconds,
+     * and bucket 0 counts 0.
+     */
+    private static final int BUCKETS = 64;
+
+    /**
+     * The name of the metric.
+     */
+    private final String name;
+
+    /**
+     * A line that describes what the metric measures.
+     */
+    private final String help;
+
+    /**
+     * The number of durations in every bucket.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The number of recorded durations.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The total of the recorded durations, in nanoseconds.
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * The longest recorded duration, in nanoseconds.
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Create a new, empty histogram. Use MetricsRegistry.histogram to get one that is registered.
+     * @param name The name of the metric.
+     * @param help A line that describes what the metric measures.
+     */
+    Histogram(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    /**
+     * Records a duration.
+     * @param nanos The duration in nanoseconds. Negative durations count as 0.
+     */
+    public void record(long nanos) {
+        nanos = Math.max(nanos, 0);
+        buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(nanos));
+        count.increment();
+        sum.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    /**
+     * Records the time that has passed since a given moment.
+     * @param start The moment, as given by System.nanoTime.
+     * @return The current System.nanoTime, so that the next duration can start from it.
+     */
+    public long recordSince(long start) {
+        long now = System.nanoTime();
+        record(now - start);
+        return now;
+    }
+
+    /**
+     * @param quantile A quantile from 0 to 1, like 0.99.
+     * @return The upper bound of the bucket that the quantile falls in, in nanoseconds,
+     * or 0 if nothing has been recorded.
+     */
+    public long quantile(double quantile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; ++bucket) {
+            seen += buckets.get(bucket);
+            if (seen >= rank) {
+                return Math.min(upperBound(bucket), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        long total = getCount();
+        return (total == 0) ? 0 : (double) sum.sum() / total;
+    }
+
+    @Override
+    public long getMedianNanos() {
+        return quantile(0.5);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return quantile(0.99);
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * Writes the buckets up to the last one that is used, with their bounds in seconds.
+     * @param out The text to append to.
+     */
+    @Override
+    public void expose(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        long[] counts = new long[BUCKETS];
+        int last = 0;
+        for (int bucket = 0; bucket < BUCKETS; ++bucket) {
+            counts[bucket] = buckets.get(bucket);
+            if (counts[bucket] != 0) {
+                last = bucket;
+            }
+        }
+        long cumulative = 0;
+        for (int bucket = 0; bucket <= last; ++bucket) {
+            cumulative += counts[bucket];
+            out.append(name).append("_bucket{le=\"").append(upperBound(bucket) / 1e9).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        out.append(name).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+        out.append(name).append("_sum ").append(sum.sum() / 1e9).append('\n');
+        out.append(name).append("_count ").append(cumulative).append('\n');
+    }
+
+    /**
+     * @param bucket A bucket.
+     * @return The longest duration that the bucket counts, in nanoseconds.
+     */
+    private static long upperBound(int bucket) {
+        return (bucket == BUCKETS - 1) ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.metrics;
+
+/**
+ * The view of a Histogram over JMX. Durations are in nanoseconds.
+ */
+public interface HistogramMBean {
+
+    /**
+     * @return The number of recorded durations.
+     */
+    long getCount();
+
+    /**
+     * @return The average duration, or 0 if none have been recorded.
+     */
+    double getMeanNanos();
+
+    /**
+     * @return An upper bound of the median duration.
+     */
+    long getMedianNanos();
+
+    /**
+     * @return An upper bound of the 99th percentile of the durations.
+     */
+    long getP99Nanos();
+
+    /**
+     * @return The longest duration.
+     */
+    long getMaxNanos();
+}
@@ -0,0 +1,29 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.metrics;
+
+/**
+ * A named value that is kept by the MetricsRegistry, and can be written out in the text exposition format.
+ */
+public interface Metric {
+
+    /**
+     * @return The name of the metric, like "dispatcher_rejected_total".
+     */
+    String getName();
+
+    /**
+     * @return A line that describes what the metric counts.
+     */
+    String getHelp();
+
+    /**
+     * Writes the current value of the metric, with its HELP and TYPE lines.
+     * @param out The text to append to.
+     */
+    void expose(StringBuilder out);
+}
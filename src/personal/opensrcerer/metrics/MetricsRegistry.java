@@ -0,0 +1,105 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps every metric of the game by its name. Every metric is also registered as an MBean under
+ * "personal.opensrcerer:type=Metrics", so it can be watched with JConsole, and all of them can be written out
+ * in the Prometheus text exposition format, which the MetricsServer serves.
+ */
+public final class MetricsRegistry {
+
+    /**
+     * The domain of every MBean of the game.
+     */
+    private static final String DOMAIN = "personal.opensrcerer:type=";
+
+    /**
+     * Every metric, ordered by name.
+     */
+    private static final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param name The name of the counter, which should end with "_total".
+     * @param help A line that describes what the counter counts.
+     * @return The counter with the given name, which is created the first time it is asked for.
+     */
+    public static Counter counter(String name, String help) {
+        return register(Counter.class, new Counter(name, help));
+    }
+
+    /**
+     * @param name The name of the gauge.
+     * @param help A line that describes what the gauge shows.
+     * @param value Reads the current value. Can be called from any thread.
+     * @return The gauge with the given name, which is created the first time it is asked for.
+     */
+    public static Gauge gauge(String name, String help, LongSupplier value) {
+        return register(Gauge.class, new Gauge(name, help, value));
+    }
+
+    /**
+     * @param name The name of the histogram, which should end with "_seconds".
+     * @param help A line that describes what the histogram measures.
+     * @return The histogram with the given name, which is created the first time it is asked for.
+     */
+    public static Histogram histogram(String name, String help) {
+        return register(Histogram.class, new Histogram(name, help));
+    }
+
+    /**
+     * @return Every metric in the Prometheus text exposition format.
+     */
+    public static String scrape() {
+        StringBuilder out = new StringBuilder();
+        for (Metric metric : metrics.values()) {
+            metric.expose(out);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Registers an MBean of the game, so that it can be watched over JMX like the metrics.
+     * @param name The name of the MBean, which becomes its type under "personal.opensrcerer".
+     * @param mbean The MBean.
+     */
+    public static void registerMBean(String name, Object mbean) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, new ObjectName(DOMAIN + name));
+        } catch (JMException ex) {
+            System.out.println("Something went wrong! " + name + " is not available over JMX: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Adds a metric, unless one with the same name exists already.
+     * @param type The type of the metric.
+     * @param metric The new metric.
+     * @param <M> The type of the metric.
+     * @return The metric that is registered under the name.
+     * @throws IllegalArgumentException If a metric of another type has the same name.
+     */
+    private static <M extends Metric> M register(Class<M> type, M metric) {
+        Metric registered = metrics.putIfAbsent(metric.getName(), metric);
+        if (registered == null) { // Only the call that added the metric registers its MBean
+            registerMBean("Metrics,name=" + metric.getName(), metric);
+            registered = metric;
+        }
+        if (!type.isInstance(registered)) {
+            throw new IllegalArgumentException("Metric " + metric.getName() +
+                    " is already registered with another type!");
+        }
+        return type.cast(registered);
+    }
+}
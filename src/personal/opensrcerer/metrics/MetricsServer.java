@@ -0,0 +1,90 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves every metric of the MetricsRegistry as plain text on http://localhost:port/metrics.
+ * The server only listens on the loopback address, so the metrics cannot be read from other machines.
+ */
+public final class MetricsServer {
+
+    /**
+     * The port that the metrics are served on if none is given.
+     */
+    public static final int DEFAULT_PORT = 9464;
+
+    /**
+     * The running server, or null if it has not been started.
+     */
+    private static HttpServer server;
+
+    /**
+     * Starts serving the metrics. Does nothing if they are already being served.
+     * @param port The port to listen on, on the loopback address.
+     * @throws IOException If the port cannot be listened on.
+     */
+    public static synchronized void start(int port) throws IOException {
+        if (server != null) {
+            return;
+        }
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", MetricsServer::handle);
+        server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Metrics Server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+    }
+
+    /**
+     * Stops serving the metrics. Does nothing if they are not being served.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * @return The port that the metrics are served on, or -1 if they are not being served.
+     */
+    public static synchronized int getPort() {
+        return (server == null) ? -1 : server.getAddress().getPort();
+    }
+
+    /**
+     * Answers a request for the metrics.
+     * @param exchange The request and its response.
+     * @throws IOException If the response could not be sent.
+     */
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = MetricsRegistry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
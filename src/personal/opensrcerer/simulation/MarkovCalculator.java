@@ -0,0 +1,190 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.simulation;
+
+import personal.opensrcerer.engine.Dice;
+import personal.opensrcerer.engine.PlayerStatus;
+import personal.opensrcerer.engine.RollOutcome;
+import personal.opensrcerer.engine.RoundRules;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Calculates the exact score distribution of a round by walking the round as an absorbing Markov chain.
+ * <br>
+ * The states are AWAITING_POINT_ROLL, PLAYING with a point and a roll count, and FINISHED_ROUND.
+ * The transitions are read from the RoundRules tables, so the chain always follows the game's rules.
+ * Rounds of different players are independent, so R rounds are the round distribution added to itself R times.
+ * <br>
+ * Results are memoized, so every distribution is only calculated once.
+ */
+public final class MarkovCalculator {
+
+    /**
+     * The chain stops when the probability of still playing falls under this value.
+     */
+    private static final double EPSILON = 1e-18;
+
+    /**
+     * The chain stops after this many rolls, whatever the remaining probability.
+     */
+    private static final int MAX_ROLLS = 1024;
+
+    /**
+     * Distributions of whole games, by number of rounds.
+     */
+    private static final ConcurrentHashMap<Integer, ScoreDistribution> games = new ConcurrentHashMap<>();
+
+    /**
+     * Holds the round results, which are calculated the first time they are needed.
+     */
+    private static final class Round {
+
+        /**
+         * The score distribution of one round.
+         */
+        private static final ScoreDistribution distribution;
+
+        /**
+         * The expected number of rolls a player needs to finish a round.
+         */
+        private static final double expectedRolls;
+
+        static {
+            double[] scores = new double[MAX_ROLLS + 10];
+            int minScore = 10 - MAX_ROLLS;
+            double rolls = 0;
+
+            // Probability of still PLAYING, by point roll
+            double[] playing = new double[Dice.OUTCOMES];
+            double chance = 1.0 / Dice.OUTCOMES;
+
+            // The point roll
+            for (int roll = 0; roll < Dice.OUTCOMES; ++roll) {
+                RollOutcome outcome = RoundRules.outcome(PlayerStatus.AWAITING_POINT_ROLL, Dice.UNROLLED, roll);
+                if (outcome.finishesRound()) {
+                    scores[outcome.scoreFor(1) - minScore] += chance;
+                    rolls += chance;
+                } else {
+                    playing[roll] += chance;
+                }
+            }
+
+            // Chasing the point
+            double remaining = sum(playing);
+            int count = 1;
+            while (remaining > EPSILON && count < MAX_ROLLS) {
+                ++count;
+                double[] next = new double[Dice.OUTCOMES];
+                for (int point = 0; point < Dice.OUTCOMES; ++point) {
+                    if (playing[point] == 0) {
+                        continue;
+                    }
+                    double p = playing[point] * chance;
+                    for (int roll = 0; roll < Dice.OUTCOMES; ++roll) {
+                        RollOutcome outcome = RoundRules.outcome(PlayerStatus.PLAYING, point, roll);
+                        if (outcome.finishesRound()) {
+                            scores[outcome.scoreFor(count) - minScore] += p;
+                            rolls += count * p;
+                        } else {
+                            next[(outcome == RollOutcome.POINT_SET) ? roll : point] += p;
+                        }
+                    }
+                }
+                playing = next;
+                remaining = sum(playing);
+            }
+
+            distribution = trim(minScore, scores, remaining);
+            expectedRolls = rolls;
+        }
+    }
+
+    /**
+     * @return The exact score distribution of one round.
+     */
+    public static ScoreDistribution round() {
+        return Round.distribution;
+    }
+
+    /**
+     * @return The expected number of rolls a player needs to finish a round.
+     */
+    public static double expectedRollsPerRound() {
+        return Round.expectedRolls;
+    }
+
+    /**
+     * @param rounds The number of rounds.
+     * @return The exact distribution of a player's final score after the given rounds.
+     * @throws IllegalArgumentException If rounds is not positive.
+     */
+    public static ScoreDistribution rounds(int rounds) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Rounds must be positive!");
+        }
+
+        if (rounds == 1) {
+            return round();
+        }
+
+        ScoreDistribution cached = games.get(rounds);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Start from the largest game that is already known
+        int known = 1;
+        ScoreDistribution distribution = round();
+        for (int previous = rounds - 1; previous > 1; --previous) {
+            ScoreDistribution previousGame = games.get(previous);
+            if (previousGame != null) {
+                known = previous;
+                distribution = previousGame;
+                break;
+            }
+        }
+
+        while (known < rounds) {
+            distribution = distribution.convolve(round());
+            games.putIfAbsent(++known, distribution);
+        }
+        return games.get(rounds);
+    }
+
+    /**
+     * Cuts off the scores that have no probability on either end.
+     * @param minScore The score at index 0.
+     * @param scores Probabilities of every score.
+     * @param tailMass The probability that was not calculated.
+     * @return A compact distribution.
+     */
+    private static ScoreDistribution trim(int minScore, double[] scores, double tailMass) {
+        int low = 0, high = scores.length - 1;
+        while (low < high && scores[low] == 0) {
+            ++low;
+        }
+        while (high > low && scores[high] == 0) {
+            --high;
+        }
+        double[] trimmed = new double[high - low + 1];
+        System.arraycopy(scores, low, trimmed, 0, trimmed.length);
+        return new ScoreDistribution(minScore + low, trimmed, tailMass);
+    }
+
+    /**
+     * @param values Array of values.
+     * @return The sum of the values.
+     */
+    private static double sum(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.simulation;
+
+import personal.opensrcerer.engine.GameEngine;
+import personal.opensrcerer.engine.PlayerState;
+import personal.opensrcerer.engine.RollOutcome;
+import personal.opensrcerer.eventLog.EventLogWriter;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Plays whole Snake Eyes games on the headless GameEngine as fast as possible,
+ * splitting the work across all cores with a ForkJoinPool.
+ * <br>
+ * Every game gets its own seed, derived from a master seed by splitting a SplittableRandom in the same way
+ * as the batches are split. The same master seed therefore gives the same games and the same result,
+ * no matter which threads play them.
+ */
+public final class MonteCarloSimulator {
+
+    /**
+     * Batches with at most this many games are played on a single thread.
+     */
+    private static final long BATCH_SIZE = 4096;
+
+    /**
+     * Simulate a number of games on the common ForkJoinPool, with a random master seed.
+     * @param games The number of games to play.
+     * @param players The number of players in every game.
+     * @param rounds The number of rounds in every game.
+     * @return The gathered statistics.
+     */
+    public static SimulationResult simulate(long games, int players, int rounds) {
+        return simulate(games, players, rounds, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Simulate a number of games on the common ForkJoinPool.
+     * @param games The number of games to play.
+     * @param players The number of players in every game.
+     * @param rounds The number of rounds in every game.
+     * @param seed The master seed that the seed of every game is derived from.
+     * @return The gathered statistics.
+     */
+    public static SimulationResult simulate(long games, int players, int rounds, long seed) {
+        return simulate(ForkJoinPool.commonPool(), games, players, rounds, seed);
+    }
+
+    /**
+     * Simulate a number of games on a given ForkJoinPool.
+     * @param pool The pool to run the games on.
+     * @param games The number of games to play.
+     * @param players The number of players in every game.
+     * @param rounds The number of rounds in every game.
+     * @param seed The master seed that the seed of every game is derived from.
+     * @return The gathered statistics.
+     * @throws IllegalArgumentException If any of the numbers is not positive.
+     */
+    public static SimulationResult simulate(ForkJoinPool pool, long games, int players, int rounds, long seed) {
+        if (games < 1 || players < 1 || rounds < 1) {
+            throw new IllegalArgumentException("Games, players and rounds must be positive!");
+        }
+        return pool.invoke(new SimulationTask(games, players, rounds, new SplittableRandom(seed)));
+    }
+
+    /**
+     * Simulate a number of games on the calling thread, appending every game and its seed to an event log.
+     * The games get the same seeds as the games that simulate plays with the same master seed.
+     * @param log The log to append the games to.
+     * @param games The number of games to play.
+     * @param players The number of players in every game.
+     * @param rounds The number of rounds in every game.
+     * @param seed The master seed that the seed of every game is derived from.
+     * @return The gathered statistics.
+     * @throws IllegalArgumentException If any of the numbers is not positive.
+     */
+    public static SimulationResult record(EventLogWriter log, long games, int players, int rounds, long seed) {
+        if (games < 1 || players < 1 || rounds < 1) {
+            throw new IllegalArgumentException("Games, players and rounds must be positive!");
+        }
+        SimulationResult result = new SimulationResult(players, rounds);
+        recordBatch(log, result, games, players, rounds, new SplittableRandom(seed));
+        return result;
+    }
+
+    /**
+     * Plays a batch of games and appends them to an event log,
+     * splitting the seeds in the same order as a SimulationTask does.
+     * @param log The log to append the games to.
+     * @param result The result to record the games into.
+     * @param games The number of games in this batch.
+     * @param players The number of players in every game.
+     * @param rounds The number of rounds in every game.
+     * @param seeds The generator that the seeds of this batch's games are taken from.
+     */
+    private static void recordBatch(EventLogWriter log, SimulationResult result,
+                                    long games, int players, int rounds, SplittableRandom seeds) {
+        if (games <= BATCH_SIZE) {
+            for (long game = 0; game < games; ++game) {
+                playGame(result, players, rounds, seeds.nextLong(), log);
+            }
+            return;
+        }
+
+        long half = games / 2;
+        // The first half takes the split generator, just like the forked task of a SimulationTask
+        recordBatch(log, result, half, players, rounds, seeds.split());
+        recordBatch(log, result, games - half, players, rounds, seeds);
+    }
+
+    /**
+     * Plays a single game to the end and records it.
+     * @param result The result to record the game into.
+     * @param players The number of players in the game.
+     * @param rounds The number of rounds in the game.
+     * @param seed The seed that the game's dice are rolled from.
+     */
+    static void playGame(SimulationResult result, int players, int rounds, long seed) {
+        playGame(result, players, rounds, seed, null);
+    }
+
+    /**
+     * Plays a single game to the end and records it.
+     * @param result The result to record the game into.
+     * @param players The number of players in the game.
+     * @param rounds The number of rounds in the game.
+     * @param seed The seed that the game's dice are rolled from.
+     * @param log The log to append the game's events to, or null if the game should not be logged.
+     */
+    static void playGame(SimulationResult result, int players, int rounds, long seed, EventLogWriter log) {
+        PlayerState[] states = new PlayerState[players];
+        for (int seat = 0; seat < players; ++seat) {
+            states[seat] = new PlayerState(seat, "Player " + (seat + 1), true);
+        }
+
+        GameEngine engine = new GameEngine(states, rounds, seed, log);
+        while (!engine.isFinished()) {
+            PlayerState player = engine.getPlayerOnTurn();
+            RollOutcome outcome = engine.applyRoll(engine.nextDice());
+            if (outcome.finishesRound()) {
+                // Read the rolls before the next round resets them
+                result.recordRound(player.getConsecutiveRolls());
+            }
+            engine.nextTurn();
+        }
+        result.recordGame(states);
+    }
+
+    /**
+     * Splits a batch of games in halves until they are small enough to play on one thread.
+     */
+    private static final class SimulationTask extends RecursiveTask<SimulationResult> {
+
+        /**
+         * The number of games in this batch.
+         */
+        private final long games;
+
+        /**
+         * The number of players in every game.
+         */
+        private final int players;
+
+        /**
+         * The number of rounds in every game.
+         */
+        private final int rounds;
+
+        /**
+         * The generator that the seeds of this batch's games are taken from.
+         */
+        private final SplittableRandom seeds;
+
+        /**
+         * Create a new batch of games.
+         * @param games The number of games in this batch.
+         * @param players The number of players in every game.
+         * @param rounds The number of rounds in every game.
+         * @param seeds The generator that the seeds of this batch's games are taken from.
+         */
+        private SimulationTask(long games, int players, int rounds, SplittableRandom seeds) {
+            this.games = games;
+            this.players = players;
+            this.rounds = rounds;
+            this.seeds = seeds;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (games <= BATCH_SIZE) {
+                SimulationResult result = new SimulationResult(players, rounds);
+                for (long game = 0; game < games; ++game) {
+                    playGame(result, players, rounds, seeds.nextLong());
+                }
+                return result;
+            }
+
+            long half = games / 2;
+            // Split the seeds before forking, so the split does not depend on which thread runs first
+            SimulationTask left = new SimulationTask(half, players, rounds, seeds.split());
+            left.fork();
+            SimulationResult right = new SimulationTask(games - half, players, rounds, seeds).compute();
+            return right.merge(left.join());
+        }
+    }
+}
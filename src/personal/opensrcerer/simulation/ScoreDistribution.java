@@ -0,0 +1,137 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.simulation;
+
+import java.util.Arrays;
+
+/**
+ * The probability of every score a player can make, over one or more rounds.
+ * Objects of this class are immutable, so they can be shared between threads.
+ */
+public final class ScoreDistribution {
+
+    /**
+     * The lowest score that has a probability in this distribution.
+     */
+    private final int minScore;
+
+    /**
+     * Probabilities of every score, indexed by score - minScore.
+     */
+    private final double[] probabilities;
+
+    /**
+     * Probability of the scores that were too unlikely to be calculated, all below minScore.
+     */
+    private final double tailMass;
+
+    /**
+     * Create a new distribution.
+     * @param minScore The lowest score that has a probability in this distribution.
+     * @param probabilities Probabilities of every score, indexed by score - minScore.
+     * @param tailMass Probability of the scores that were too unlikely to be calculated.
+     */
+    ScoreDistribution(int minScore, double[] probabilities, double tailMass) {
+        this.minScore = minScore;
+        this.probabilities = probabilities;
+        this.tailMass = tailMass;
+    }
+
+    /**
+     * @return The lowest score that has a probability in this distribution.
+     */
+    public int getMinScore() {
+        return minScore;
+    }
+
+    /**
+     * @return The highest score that has a probability in this distribution.
+     */
+    public int getMaxScore() {
+        return minScore + probabilities.length - 1;
+    }
+
+    /**
+     * @return Probability of the scores below getMinScore(), that were too unlikely to be calculated.
+     */
+    public double getTailMass() {
+        return tailMass;
+    }
+
+    /**
+     * @param score A score.
+     * @return The probability of making exactly this score.
+     */
+    public double probability(int score) {
+        if (score < minScore || score > getMaxScore()) {
+            return 0;
+        }
+        return probabilities[score - minScore];
+    }
+
+    /**
+     * @param score A score.
+     * @return The probability of making this score or less.
+     */
+    public double cumulative(int score) {
+        double sum = tailMass;
+        for (int index = 0; index < probabilities.length && index + minScore <= score; ++index) {
+            sum += probabilities[index];
+        }
+        return sum;
+    }
+
+    /**
+     * @return The expected score.
+     */
+    public double mean() {
+        double mean = 0;
+        for (int index = 0; index < probabilities.length; ++index) {
+            mean += (index + minScore) * probabilities[index];
+        }
+        return mean;
+    }
+
+    /**
+     * @return The variance of the score.
+     */
+    public double variance() {
+        double mean = mean(), variance = 0;
+        for (int index = 0; index < probabilities.length; ++index) {
+            double difference = index + minScore - mean;
+            variance += difference * difference * probabilities[index];
+        }
+        return variance;
+    }
+
+    /**
+     * Adds an independent score to this one.
+     * @param other The distribution of the other score.
+     * @return The distribution of the sum of both scores.
+     */
+    ScoreDistribution convolve(ScoreDistribution other) {
+        double[] sum = new double[probabilities.length + other.probabilities.length - 1];
+        for (int left = 0; left < probabilities.length; ++left) {
+            if (probabilities[left] == 0) {
+                continue;
+            }
+            for (int right = 0; right < other.probabilities.length; ++right) {
+                sum[left + right] += probabilities[left] * other.probabilities[right];
+            }
+        }
+        // Anything that involves a tail score also ends up in the tail
+        double tail = tailMass + other.tailMass - tailMass * other.tailMass;
+        return new ScoreDistribution(minScore + other.minScore, sum, tail);
+    }
+
+    /**
+     * @return A copy of the probabilities of every score, indexed by score - getMinScore().
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(probabilities, probabilities.length);
+    }
+}
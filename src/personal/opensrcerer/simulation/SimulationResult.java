@@ -0,0 +1,236 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.simulation;
+
+import personal.opensrcerer.engine.PlayerState;
+
+/**
+ * Holds the statistics gathered from a batch of simulated games.
+ * Results from different batches can be merged together.
+ */
+public class SimulationResult {
+
+    /**
+     * Rolls per round at or above this value are put in the last bucket.
+     */
+    public static final int MAX_ROLLS_BUCKET = 64;
+
+    /**
+     * The lowest score a player can make in a round that is still counted in its own bucket.
+     */
+    private static final int MIN_ROUND_SCORE = -MAX_ROLLS_BUCKET;
+
+    /**
+     * The number of players in every simulated game.
+     */
+    private final int players;
+
+    /**
+     * The number of rounds in every simulated game.
+     */
+    private final int rounds;
+
+    /**
+     * The lowest final score that has its own bucket in the score histogram.
+     */
+    private final int minScore;
+
+    /**
+     * How many times each seat has won a game. Ties go to the earliest seat, like in the GUI.
+     */
+    private final long[] wins;
+
+    /**
+     * The sum of the final scores of each seat.
+     */
+    private final long[] scoreSums;
+
+    /**
+     * Histogram of final scores of all players, indexed by score - minScore.
+     */
+    private final long[] scores;
+
+    /**
+     * Histogram of how many rolls a player needed to finish a round.
+     */
+    private final long[] rollsPerRound = new long[MAX_ROLLS_BUCKET + 1];
+
+    /**
+     * The number of games that were simulated.
+     */
+    private long games;
+
+    /**
+     * The number of games where the top score was shared by more than one player.
+     */
+    private long ties;
+
+    /**
+     * Create a new empty result.
+     * @param players The number of players in every simulated game.
+     * @param rounds The number of rounds in every simulated game.
+     */
+    public SimulationResult(int players, int rounds) {
+        this.players = players;
+        this.rounds = rounds;
+        this.minScore = MIN_ROUND_SCORE * rounds;
+        this.wins = new long[players];
+        this.scoreSums = new long[players];
+        this.scores = new long[10 * rounds - minScore + 1];
+    }
+
+    /**
+     * Record the number of rolls a player needed to finish a round.
+     * @param rolls Rolls made in the round.
+     */
+    void recordRound(int rolls) {
+        ++rollsPerRound[Math.min(rolls, MAX_ROLLS_BUCKET)];
+    }
+
+    /**
+     * Record the final scores of a finished game.
+     * @param states The players of the game, ordered by their seat.
+     */
+    void recordGame(PlayerState[] states) {
+        int winner = 0;
+        boolean tied = false;
+        for (int seat = 0; seat < states.length; ++seat) {
+            int score = states[seat].getScore();
+            scoreSums[seat] += score;
+            ++scores[Math.max(score, minScore) - minScore];
+
+            if (score > states[winner].getScore()) {
+                winner = seat;
+                tied = false;
+            } else if (seat != winner && score == states[winner].getScore()) {
+                tied = true;
+            }
+        }
+        ++wins[winner];
+        if (tied) {
+            ++ties;
+        }
+        ++games;
+    }
+
+    /**
+     * Adds the statistics of another result to this one.
+     * @param other A result for games with the same number of players and rounds.
+     * @return This result.
+     */
+    public SimulationResult merge(SimulationResult other) {
+        games += other.games;
+        ties += other.ties;
+        for (int seat = 0; seat < players; ++seat) {
+            wins[seat] += other.wins[seat];
+            scoreSums[seat] += other.scoreSums[seat];
+        }
+        for (int index = 0; index < scores.length; ++index) {
+            scores[index] += other.scores[index];
+        }
+        for (int index = 0; index < rollsPerRound.length; ++index) {
+            rollsPerRound[index] += other.rollsPerRound[index];
+        }
+        return this;
+    }
+
+    /**
+     * @return The number of games that were simulated.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * @return The number of games where the top score was shared.
+     */
+    public long getTies() {
+        return ties;
+    }
+
+    /**
+     * @param seat The seat, starting from 0.
+     * @return The fraction of games that the seat has won.
+     */
+    public double getWinRate(int seat) {
+        return (games == 0) ? 0 : (double) wins[seat] / games;
+    }
+
+    /**
+     * @param seat The seat, starting from 0.
+     * @return The average final score of the seat.
+     */
+    public double getAverageScore(int seat) {
+        return (games == 0) ? 0 : (double) scoreSums[seat] / games;
+    }
+
+    /**
+     * @param score A final score.
+     * @return How many times a player has finished a game with this score.
+     * Scores under the histogram range are counted together with the lowest one.
+     */
+    public long getScoreCount(int score) {
+        if (score < minScore || score > 10 * rounds) {
+            return 0;
+        }
+        return scores[score - minScore];
+    }
+
+    /**
+     * @param rolls A number of rolls.
+     * @return How many rounds have been finished with this number of rolls.
+     */
+    public long getRoundsWithRolls(int rolls) {
+        return rollsPerRound[Math.min(rolls, MAX_ROLLS_BUCKET)];
+    }
+
+    /**
+     * @return The average number of rolls a player needs to finish a round.
+     */
+    public double getAverageRollsPerRound() {
+        long rounds = 0, rolls = 0;
+        for (int index = 1; index < rollsPerRound.length; ++index) {
+            rounds += rollsPerRound[index];
+            rolls += index * rollsPerRound[index];
+        }
+        return (rounds == 0) ? 0 : (double) rolls / rounds;
+    }
+
+    /**
+     * @return A human readable report of this result.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(games).append(" games // ").append(players).append(" players // ")
+                .append(rounds).append(" rounds\n");
+
+        report.append("\nSeat  Win rate  Avg score\n");
+        for (int seat = 0; seat < players; ++seat) {
+            report.append(String.format("%4d  %7.3f%%  %9.3f%n", seat + 1, getWinRate(seat) * 100, getAverageScore(seat)));
+        }
+        report.append(String.format("Ties: %.3f%%%n", (games == 0) ? 0 : (double) ties / games * 100));
+
+        report.append("\nFinal score distribution (all seats)\n");
+        long total = games * players;
+        for (int index = 0; index < scores.length; ++index) {
+            if (scores[index] != 0) {
+                String label = (index == 0) ? "<=" + minScore : String.valueOf(index + minScore);
+                report.append(String.format("%6s  %8.4f%%%n", label, (double) scores[index] / total * 100));
+            }
+        }
+
+        report.append(String.format("%nRolls per round (avg %.3f)%n", getAverageRollsPerRound()));
+        long rounds = total * this.rounds;
+        for (int index = 1; index < rollsPerRound.length; ++index) {
+            if (rollsPerRound[index] != 0) {
+                String label = (index == MAX_ROLLS_BUCKET) ? ">=" + index : String.valueOf(index);
+                report.append(String.format("%6s  %8.4f%%%n", label, (double) rollsPerRound[index] / rounds * 100));
+            }
+        }
+        return report.toString();
+    }
+}
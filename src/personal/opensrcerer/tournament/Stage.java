@@ -0,0 +1,247 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.tournament;
+
+import personal.opensrcerer.engine.GameEngine;
+import personal.opensrcerer.engine.PlayerState;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The matches of a tournament that do not depend on each other, so they can all be played at the same time.
+ * Every match is a two player game on the headless GameEngine, rolled from its own seed.
+ */
+final class Stage {
+
+    /**
+     * Batches with at most this many matches are played on a single thread.
+     */
+    private static final int BATCH_SIZE = 64;
+
+    /**
+     * The first entrant of every match.
+     */
+    private final int[] home;
+
+    /**
+     * The second entrant of every match.
+     */
+    private final int[] away;
+
+    /**
+     * The seed of every match.
+     */
+    private final long[] seeds;
+
+    /**
+     * The final score of the first entrant of every match.
+     */
+    private final int[] homeScores;
+
+    /**
+     * The final score of the second entrant of every match.
+     */
+    private final int[] awayScores;
+
+    /**
+     * The number of games that every match took, which is more than one for drawn matches that had to be played again.
+     */
+    private final int[] games;
+
+    /**
+     * The number of rounds in every game.
+     */
+    private final int rounds;
+
+    /**
+     * Used to show if drawn matches are played again until someone wins.
+     */
+    private final boolean decisive;
+
+    /**
+     * The number of matches that have been added.
+     */
+    private int count;
+
+    /**
+     * Create a new stage without matches.
+     * @param capacity The most matches that will be added.
+     * @param rounds The number of rounds in every game.
+     * @param decisive Whether drawn matches are played again until someone wins.
+     */
+    Stage(int capacity, int rounds, boolean decisive) {
+        this.home = new int[capacity];
+        this.away = new int[capacity];
+        this.seeds = new long[capacity];
+        this.homeScores = new int[capacity];
+        this.awayScores = new int[capacity];
+        this.games = new int[capacity];
+        this.rounds = rounds;
+        this.decisive = decisive;
+    }
+
+    /**
+     * Adds a match to this stage.
+     * @param first The first entrant.
+     * @param second The second entrant.
+     * @param seed The seed that the match's dice are rolled from.
+     */
+    void add(int first, int second, long seed) {
+        home[count] = first;
+        away[count] = second;
+        seeds[count] = seed;
+        ++count;
+    }
+
+    /**
+     * Plays every match of this stage, splitting them across the threads of a pool. Returns once all have been played.
+     * @param pool The pool to play the matches on.
+     */
+    void play(ForkJoinPool pool) {
+        if (count > 0) {
+            pool.invoke(new MatchTask(this, 0, count));
+        }
+    }
+
+    /**
+     * @return The number of matches in this stage.
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * @param match The number of a match.
+     * @return The first entrant of the match.
+     */
+    int getHome(int match) {
+        return home[match];
+    }
+
+    /**
+     * @param match The number of a match.
+     * @return The second entrant of the match.
+     */
+    int getAway(int match) {
+        return away[match];
+    }
+
+    /**
+     * @param match The number of a match.
+     * @return The final score of the first entrant.
+     */
+    int getHomeScore(int match) {
+        return homeScores[match];
+    }
+
+    /**
+     * @param match The number of a match.
+     * @return The final score of the second entrant.
+     */
+    int getAwayScore(int match) {
+        return awayScores[match];
+    }
+
+    /**
+     * @param match The number of a match.
+     * @return The number of games that the match took.
+     */
+    int getGames(int match) {
+        return games[match];
+    }
+
+    /**
+     * @param match The number of a match that has been played.
+     * @return The entrant that won the match, or -1 if it was drawn.
+     */
+    int getWinner(int match) {
+        if (homeScores[match] == awayScores[match]) {
+            return -1;
+        }
+        return (homeScores[match] > awayScores[match]) ? home[match] : away[match];
+    }
+
+    /**
+     * Plays a match to the end. A drawn match of a decisive stage is played again,
+     * with seeds that are derived from the match's seed.
+     * @param match The number of the match.
+     */
+    private void playMatch(int match) {
+        PlayerState first = new PlayerState(0, "Home", true);
+        PlayerState second = new PlayerState(1, "Away", true);
+        PlayerState[] states = {first, second};
+        long seed = seeds[match];
+        SplittableRandom rematches = null;
+        int played = 0;
+
+        do {
+            if (played > 0) {
+                if (rematches == null) {
+                    rematches = new SplittableRandom(seeds[match]);
+                }
+                seed = rematches.nextLong();
+                first.resetStatus(true);
+                second.resetStatus(true);
+            }
+            GameEngine engine = new GameEngine(states, rounds, seed);
+            while (!engine.isFinished()) {
+                engine.roll();
+            }
+            ++played;
+        } while (decisive && first.getScore() == second.getScore());
+
+        homeScores[match] = first.getScore();
+        awayScores[match] = second.getScore();
+        games[match] = played;
+    }
+
+    /**
+     * Splits a batch of matches in halves until they are small enough to play on one thread.
+     */
+    private static final class MatchTask extends RecursiveAction {
+
+        /**
+         * The stage that the matches belong to.
+         */
+        private final Stage stage;
+
+        /**
+         * The first match of this batch.
+         */
+        private final int from;
+
+        /**
+         * The match after the last one of this batch.
+         */
+        private final int to;
+
+        /**
+         * @param stage The stage that the matches belong to.
+         * @param from The first match of the batch.
+         * @param to The match after the last one of the batch.
+         */
+        private MatchTask(Stage stage, int from, int to) {
+            this.stage = stage;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (int match = from; match < to; ++match) {
+                    stage.playMatch(match);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MatchTask(stage, from, middle), new MatchTask(stage, middle, to));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.tournament;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Plays tournaments of bot entrants, made of two player Snake Eyes games on the headless GameEngine.
+ * A tournament is played as a series of stages. The matches of a stage are played in parallel on a ForkJoinPool,
+ * and their results decide the pairings of the next stage.
+ * <br>
+ * Every match gets its own seed from a master seed, drawn in the order that matches are paired,
+ * so the same master seed plays the same tournament no matter which threads play the matches.
+ */
+public final class Tournament {
+
+    /**
+     * Play a tournament on the common ForkJoinPool, with a random master seed.
+     * @param format The format of the tournament.
+     * @param entrants The number of entrants.
+     * @param rounds The number of rounds in every game.
+     * @return The final standings.
+     */
+    public static TournamentResult play(TournamentFormat format, int entrants, int rounds) {
+        return play(format, entrants, rounds, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Play a tournament on the common ForkJoinPool.
+     * @param format The format of the tournament.
+     * @param entrants The number of entrants.
+     * @param rounds The number of rounds in every game.
+     * @param seed The master seed that the seed of every match is derived from.
+     * @return The final standings.
+     */
+    public static TournamentResult play(TournamentFormat format, int entrants, int rounds, long seed) {
+        return play(ForkJoinPool.commonPool(), format, entrants, rounds, seed);
+    }
+
+    /**
+     * Play a tournament on a given ForkJoinPool. A Swiss tournament has as many stages as a knockout would.
+     * @param pool The pool to play the matches on.
+     * @param format The format of the tournament.
+     * @param entrants The number of entrants.
+     * @param rounds The number of rounds in every game.
+     * @param seed The master seed that the seed of every match is derived from.
+     * @return The final standings.
+     * @throws IllegalArgumentException If there are fewer than two entrants, or the rounds are not positive.
+     */
+    public static TournamentResult play(ForkJoinPool pool, TournamentFormat format, int entrants, int rounds, long seed) {
+        if (entrants < 2 || rounds < 1) {
+            throw new IllegalArgumentException("A tournament needs at least two entrants and one round!");
+        }
+        SplittableRandom seeds = new SplittableRandom(seed);
+        TournamentResult result = new TournamentResult(format, entrants, rounds);
+        switch (format) {
+            case ROUND_ROBIN -> roundRobin(pool, result, rounds, seeds);
+            case KNOCKOUT -> knockout(pool, result, rounds, seeds);
+            case SWISS -> swiss(pool, result, knockoutStages(entrants), rounds, seeds);
+        }
+        return result;
+    }
+
+    /**
+     * Plays a round-robin with the circle method: the first entrant stays in place while the others rotate,
+     * so every stage has every entrant play once. An odd number of entrants gets an empty seat, which sits out.
+     * @param pool The pool to play the matches on.
+     * @param result The standings to tally into.
+     * @param rounds The number of rounds in every game.
+     * @param seeds Gives the seed of every match.
+     */
+    private static void roundRobin(ForkJoinPool pool, TournamentResult result, int rounds, SplittableRandom seeds) {
+        int entrants = result.getEntrants();
+        int seats = entrants + (entrants & 1); // The last seat is empty if the number is odd
+        for (int round = 0; round < seats - 1; ++round) {
+            Stage stage = new Stage(seats / 2, rounds, false);
+            for (int pair = 0; pair < seats / 2; ++pair) {
+                int first = circleSeat(pair, round, seats);
+                int second = circleSeat(seats - 1 - pair, round, seats);
+                if (first < entrants && second < entrants) {
+                    stage.add(first, second, seeds.nextLong());
+                }
+            }
+            stage.play(pool);
+            result.record(stage);
+        }
+    }
+
+    /**
+     * @param position A position around the circle.
+     * @param round The round of the round-robin.
+     * @param seats The number of seats, which is even.
+     * @return The entrant that sits on the position in the round.
+     */
+    private static int circleSeat(int position, int round, int seats) {
+        return (position == 0) ? 0 : 1 + (position - 1 + round) % (seats - 1);
+    }
+
+    /**
+     * Plays a knockout. The best seeded entrants, which are those with the lowest numbers, get a bye
+     * in the first stage if the bracket is not full. Every stage pairs the best seed left with the worst one.
+     * @param pool The pool to play the matches on.
+     * @param result The standings to tally into.
+     * @param rounds The number of rounds in every game.
+     * @param seeds Gives the seed of every match.
+     */
+    private static void knockout(ForkJoinPool pool, TournamentResult result, int rounds, SplittableRandom seeds) {
+        int[] alive = new int[result.getEntrants()];
+        Arrays.setAll(alive, entrant -> entrant);
+        int byes = (1 << knockoutStages(alive.length)) - alive.length; // Fill the bracket up to a power of two
+
+        int count = alive.length;
+        int stages = 0;
+        while (count > 1) {
+            ++stages;
+            Stage stage = new Stage(count / 2, rounds, true);
+            for (int entrant = 0; entrant < byes; ++entrant) {
+                result.recordBye(alive[entrant]);
+            }
+            for (int pair = 0; pair < (count - byes) / 2; ++pair) {
+                stage.add(alive[byes + pair], alive[count - 1 - pair], seeds.nextLong());
+            }
+            stage.play(pool);
+            result.record(stage);
+
+            // The entrants with byes go on first, then the winners in the order they were paired
+            int next = byes;
+            for (int match = 0; match < stage.size(); ++match) {
+                int winner = stage.getWinner(match);
+                int loser = (winner == stage.getHome(match)) ? stage.getAway(match) : stage.getHome(match);
+                result.recordLasted(loser, stages);
+                alive[next++] = winner;
+            }
+            Arrays.sort(alive, 0, next); // Best seeds first again
+            count = next;
+            byes = 0;
+        }
+        result.recordLasted(alive[0], stages + 1); // The winner outlasts the runner up
+    }
+
+    /**
+     * @param entrants The number of entrants.
+     * @return The number of stages that a knockout of the entrants has.
+     */
+    private static int knockoutStages(int entrants) {
+        return 32 - Integer.numberOfLeadingZeros(entrants - 1);
+    }
+
+    /**
+     * Plays a Swiss tournament. Every stage pairs entrants in the order of the standings,
+     * each with the next entrant that it has not played yet, if there is one. With an odd number of entrants,
+     * the lowest placed entrant that has not had a bye yet sits out and gets one.
+     * @param pool The pool to play the matches on.
+     * @param result The standings to tally into.
+     * @param stages The number of stages to play.
+     * @param rounds The number of rounds in every game.
+     * @param seeds Gives the seed of every match.
+     */
+    private static void swiss(ForkJoinPool pool, TournamentResult result, int stages, int rounds,
+                              SplittableRandom seeds) {
+        int entrants = result.getEntrants();
+        Set<Long> played = new HashSet<>();
+        boolean[] hadBye = new boolean[entrants];
+
+        for (int round = 0; round < stages; ++round) {
+            int[] ranking = result.getRanking();
+            boolean[] paired = new boolean[entrants];
+            if ((entrants & 1) == 1) {
+                int place = entrants - 1;
+                while (place > 0 && hadBye[ranking[place]]) {
+                    --place;
+                }
+                int bye = ranking[place];
+                hadBye[bye] = true;
+                paired[bye] = true;
+                result.recordBye(bye);
+            }
+
+            Stage stage = new Stage(entrants / 2, rounds, false);
+            for (int place = 0; place < entrants; ++place) {
+                int first = ranking[place];
+                if (paired[first]) {
+                    continue;
+                }
+                int fallback = -1;
+                int second = -1;
+                for (int other = place + 1; other < entrants; ++other) {
+                    int candidate = ranking[other];
+                    if (paired[candidate]) {
+                        continue;
+                    }
+                    if (fallback < 0) {
+                        fallback = candidate;
+                    }
+                    if (!played.contains(pairKey(first, candidate))) {
+                        second = candidate;
+                        break;
+                    }
+                }
+                second = (second < 0) ? fallback : second; // Everyone left has been played, so allow a rematch
+                paired[first] = true;
+                paired[second] = true;
+                played.add(pairKey(first, second));
+                stage.add(first, second, seeds.nextLong());
+            }
+            stage.play(pool);
+            result.record(stage);
+        }
+    }
+
+    /**
+     * @param first An entrant.
+     * @param second Another entrant.
+     * @return A key for the pair that is the same in either order.
+     */
+    private static long pairKey(int first, int second) {
+        return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+    }
+}
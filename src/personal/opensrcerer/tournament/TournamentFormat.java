@@ -0,0 +1,61 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.tournament;
+
+/**
+ * The ways that the entrants of a tournament can be matched against each other.
+ */
+public enum TournamentFormat {
+    /**
+     * Every entrant plays every other entrant once.
+     */
+    ROUND_ROBIN("Round-robin"),
+
+    /**
+     * Entrants are paired in a bracket, and only the winners go on to the next stage.
+     * Drawn matches are played again until someone wins.
+     */
+    KNOCKOUT("Knockout"),
+
+    /**
+     * Entrants play a few stages, each against an entrant with the same number of points that they have not met yet.
+     */
+    SWISS("Swiss");
+
+    /**
+     * The name of the format, as shown on reports.
+     */
+    private final String title;
+
+    /**
+     * @param title The name of the format, as shown on reports.
+     */
+    TournamentFormat(String title) {
+        this.title = title;
+    }
+
+    /**
+     * @return The name of the format, as shown on reports.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @param name The name of a format, like "round-robin", "knockout" or "swiss". Case does not matter.
+     * @return The format.
+     * @throws IllegalArgumentException If there is no format with that name.
+     */
+    public static TournamentFormat fromName(String name) {
+        for (TournamentFormat format : values()) {
+            if (format.title.equalsIgnoreCase(name) || format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("There is no tournament format called " + name + "!");
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.tournament;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The standings of a tournament, tallied stage by stage.
+ * A win is worth 2 points, a draw 1 and a loss nothing. A bye counts as a win without a game.
+ * Entrants with the same points are ordered by the total of their game scores, then by their number.
+ * In a knockout, entrants that went further always come first.
+ */
+public class TournamentResult {
+
+    /**
+     * The number of places that are shown on a report.
+     */
+    private static final int REPORTED_PLACES = 10;
+
+    /**
+     * The format of the tournament.
+     */
+    private final TournamentFormat format;
+
+    /**
+     * The number of rounds in every game.
+     */
+    private final int rounds;
+
+    /**
+     * The points of every entrant.
+     */
+    private final int[] points;
+
+    /**
+     * The matches that every entrant has won, byes included.
+     */
+    private final int[] wins;
+
+    /**
+     * The matches that every entrant has drawn.
+     */
+    private final int[] draws;
+
+    /**
+     * The matches that every entrant has lost.
+     */
+    private final int[] losses;
+
+    /**
+     * The total of the final game scores of every entrant.
+     */
+    private final long[] scored;
+
+    /**
+     * The number of stages that every entrant has lasted. Only differs between entrants in a knockout.
+     */
+    private final int[] lasted;
+
+    /**
+     * The number of stages that have been tallied.
+     */
+    private int stages;
+
+    /**
+     * The number of matches that have been played.
+     */
+    private long matches;
+
+    /**
+     * The number of games that have been played, which includes drawn knockout matches that were played again.
+     */
+    private long games;
+
+    /**
+     * Create new, empty standings.
+     * @param format The format of the tournament.
+     * @param entrants The number of entrants.
+     * @param rounds The number of rounds in every game.
+     */
+    TournamentResult(TournamentFormat format, int entrants, int rounds) {
+        this.format = format;
+        this.rounds = rounds;
+        this.points = new int[entrants];
+        this.wins = new int[entrants];
+        this.draws = new int[entrants];
+        this.losses = new int[entrants];
+        this.scored = new long[entrants];
+        this.lasted = new int[entrants];
+    }
+
+    /**
+     * Tallies the matches of a stage that has been played.
+     * @param stage The stage.
+     */
+    void record(Stage stage) {
+        ++stages;
+        for (int match = 0; match < stage.size(); ++match) {
+            int home = stage.getHome(match);
+            int away = stage.getAway(match);
+            int winner = stage.getWinner(match);
+            scored[home] += stage.getHomeScore(match);
+            scored[away] += stage.getAwayScore(match);
+            if (winner < 0) {
+                points[home] += 1;
+                points[away] += 1;
+                ++draws[home];
+                ++draws[away];
+            } else {
+                int loser = (winner == home) ? away : home;
+                points[winner] += 2;
+                ++wins[winner];
+                ++losses[loser];
+            }
+            matches++;
+            games += stage.getGames(match);
+        }
+    }
+
+    /**
+     * Gives an entrant a bye, which counts as a win without a game.
+     * @param entrant The entrant.
+     */
+    void recordBye(int entrant) {
+        points[entrant] += 2;
+        ++wins[entrant];
+    }
+
+    /**
+     * Marks how long an entrant has lasted in a knockout.
+     * @param entrant The entrant.
+     * @param stage The stage that the entrant was knocked out in, or one more than the last stage for the winner.
+     */
+    void recordLasted(int entrant, int stage) {
+        lasted[entrant] = stage;
+    }
+
+    /**
+     * @return The entrants ordered by their place, starting with the winner.
+     */
+    public int[] getRanking() {
+        Integer[] entrants = new Integer[points.length];
+        for (int entrant = 0; entrant < entrants.length; ++entrant) {
+            entrants[entrant] = entrant;
+        }
+        Arrays.sort(entrants, Comparator.<Integer>comparingInt(entrant -> -lasted[entrant])
+                .thenComparingInt(entrant -> -points[entrant])
+                .thenComparingLong(entrant -> -scored[entrant])
+                .thenComparingInt(entrant -> entrant));
+        return Arrays.stream(entrants).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @return The entrant in first place.
+     */
+    public int getWinner() {
+        return getRanking()[0];
+    }
+
+    /**
+     * @return The format of the tournament.
+     */
+    public TournamentFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @return The number of entrants.
+     */
+    public int getEntrants() {
+        return points.length;
+    }
+
+    /**
+     * @param entrant An entrant.
+     * @return The points of the entrant.
+     */
+    public int getPoints(int entrant) {
+        return points[entrant];
+    }
+
+    /**
+     * @param entrant An entrant.
+     * @return The matches that the entrant has won, byes included.
+     */
+    public int getWins(int entrant) {
+        return wins[entrant];
+    }
+
+    /**
+     * @param entrant An entrant.
+     * @return The matches that the entrant has drawn.
+     */
+    public int getDraws(int entrant) {
+        return draws[entrant];
+    }
+
+    /**
+     * @param entrant An entrant.
+     * @return The matches that the entrant has lost.
+     */
+    public int getLosses(int entrant) {
+        return losses[entrant];
+    }
+
+    /**
+     * @param entrant An entrant.
+     * @return The total of the entrant's final game scores.
+     */
+    public long getScored(int entrant) {
+        return scored[entrant];
+    }
+
+    /**
+     * @return The number of stages that were played.
+     */
+    public int getStages() {
+        return stages;
+    }
+
+    /**
+     * @return The number of matches that were played.
+     */
+    public long getMatches() {
+        return matches;
+    }
+
+    /**
+     * @return The number of games that were played.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * @return A human readable summary of the tournament, with the first places.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(format.getTitle()).append(" // ").append(getEntrants()).append(" entrants // ")
+                .append(rounds).append(" rounds a game\n");
+        report.append(stages).append(" stages // ").append(matches).append(" matches // ")
+                .append(games).append(" games\n");
+
+        report.append("\nPlace  Entrant  Points     W-D-L  Scored\n");
+        int[] ranking = getRanking();
+        for (int place = 0; place < Math.min(REPORTED_PLACES, ranking.length); ++place) {
+            int entrant = ranking[place];
+            report.append(String.format("%5d  %7s  %6d  %8s  %6d%n", place + 1, "Bot " + (entrant + 1), points[entrant],
+                    wins[entrant] + "-" + draws[entrant] + "-" + losses[entrant], scored[entrant]));
+        }
+        report.append("\nWinner: Bot ").append(ranking[0] + 1);
+        return report.toString();
+    }
+}
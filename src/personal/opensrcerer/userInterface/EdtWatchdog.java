@@ -0,0 +1,284 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.userInterface;
+
+import personal.opensrcerer.metrics.Counter;
+import personal.opensrcerer.metrics.Histogram;
+import personal.opensrcerer.metrics.MetricsRegistry;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches how responsive the GUI thread is. A daemon thread posts a probe to the GUI thread every few milliseconds
+ * and measures how long it takes to run. If a probe waits longer than the threshold, the stack of the GUI thread is
+ * captured, so the code that blocks it can be found.
+ * <br>
+ * The watchdog also replaces the RepaintManager with one that flags components being changed from threads other
+ * than the GUI thread. Calls to repaint, which Swing allows from any thread, are not flagged.
+ * <br>
+ * Everything is reported through the MetricsRegistry and over JMX, and each stall and each new place that calls
+ * Swing from another thread is also printed once.
+ */
+public final class EdtWatchdog implements EdtWatchdogMBean {
+
+    /**
+     * The time between two probes, in milliseconds.
+     */
+    private static final int PROBE_MILLIS = 100;
+
+    /**
+     * A probe that waits longer than this many milliseconds counts as a stall.
+     */
+    private static final int STALL_MILLIS = 500;
+
+    /**
+     * The most frames of a stack that are kept.
+     */
+    private static final int STACK_DEPTH = 24;
+
+    /**
+     * The only watchdog, or null if it has not been started.
+     */
+    private static EdtWatchdog watchdog;
+
+    /**
+     * How long probes wait for the GUI thread.
+     */
+    private final Histogram lag =
+            MetricsRegistry.histogram("ui_edt_lag_seconds", "Time that a probe waits before the GUI thread runs it.");
+
+    /**
+     * How long the GUI thread was blocked for, for every stall.
+     */
+    private final Histogram stallTime =
+            MetricsRegistry.histogram("ui_edt_stall_seconds",
+                    "Time that the GUI thread was blocked for, for every stall.");
+
+    /**
+     * The number of stalls.
+     */
+    private final Counter stalls = MetricsRegistry.counter("ui_edt_stalls_total",
+            "Times that the GUI thread was blocked for longer than " + STALL_MILLIS + " ms.");
+
+    /**
+     * The number of Swing calls from other threads.
+     */
+    private final Counter offEdtCalls = MetricsRegistry.counter("ui_off_edt_calls_total",
+            "Swing components that were changed from a thread other than the GUI thread.");
+
+    /**
+     * The places that have called Swing from another thread and have been printed.
+     */
+    private final Set<String> reportedCallers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The GUI thread, as seen by the last probe that ran.
+     */
+    private volatile Thread edt;
+
+    /**
+     * The System.nanoTime that the probe that is waiting was posted at, or 0 if none is waiting.
+     */
+    private volatile long waitingSince;
+
+    /**
+     * The stack of the GUI thread at the last stall.
+     */
+    private volatile String lastStall = "";
+
+    /**
+     * The stack of the last Swing call from another thread.
+     */
+    private volatile String lastOffEdtCall = "";
+
+    /**
+     * Starts watching the GUI thread, and flagging Swing calls from other threads.
+     * Does nothing if the watchdog has already been started. Should be called from the GUI thread.
+     */
+    public static synchronized void start() {
+        if (watchdog != null) {
+            return;
+        }
+        watchdog = new EdtWatchdog();
+        MetricsRegistry.gauge("ui_edt_blocked_milliseconds", "How long the GUI thread has been blocked for right now.",
+                watchdog::getBlockedMillis);
+        MetricsRegistry.registerMBean("EdtWatchdog", watchdog);
+        RepaintManager.setCurrentManager(watchdog.new CheckingRepaintManager());
+
+        Thread thread = new Thread(watchdog::watch, "EDT Watchdog");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Posts probes to the GUI thread forever, and captures its stack when a probe waits too long.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                long posted = System.nanoTime();
+                CountDownLatch answered = new CountDownLatch(1);
+                waitingSince = posted;
+                EventQueue.invokeLater(() -> {
+                    edt = Thread.currentThread();
+                    waitingSince = 0;
+                    lag.recordSince(posted);
+                    answered.countDown();
+                });
+
+                if (!answered.await(STALL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    reportStall();
+                    answered.await(); // Wait for the GUI thread to recover
+                    stallTime.recordSince(posted);
+                }
+                Thread.sleep(PROBE_MILLIS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Captures and prints the stack of the blocked GUI thread.
+     */
+    private void reportStall() {
+        Thread blocked = edt;
+        stalls.increment();
+        if (blocked == null) {
+            return; // No probe has ever run, so the GUI thread is not known yet
+        }
+        lastStall = format(blocked.getStackTrace());
+        System.out.println("Something went wrong! The GUI thread has been blocked for more than " + STALL_MILLIS +
+                " ms at:\n" + lastStall);
+    }
+
+    /**
+     * Counts a Swing call from a thread that is not the GUI thread,
+     * and prints it the first time that it comes from its place in the code.
+     * @param stack The stack of the call.
+     */
+    private void reportOffEdtCall(StackTraceElement[] stack) {
+        if (isAllowedRepaint(stack)) {
+            return;
+        }
+        offEdtCalls.increment();
+        lastOffEdtCall = format(stack);
+        if (reportedCallers.add(getCaller(stack))) {
+            System.out.println("Something went wrong! Swing was called from " + Thread.currentThread().getName() +
+                    " instead of the GUI thread at:\n" + lastOffEdtCall);
+        }
+    }
+
+    /**
+     * Repainting is allowed from any thread, but Swing also repaints from inside methods like setText,
+     * which are not. So a repaint is only allowed if it is called from outside of Swing, or by an image loading.
+     * @param stack The stack of a call to the RepaintManager.
+     * @return True if the call comes from a repaint that is allowed from any thread.
+     */
+    private static boolean isAllowedRepaint(StackTraceElement[] stack) {
+        int outermost = -1;
+        for (int index = 0; index < stack.length; ++index) {
+            String method = stack[index].getMethodName();
+            if (method.equals("imageUpdate")) {
+                return true;
+            }
+            if (method.equals("repaint")) {
+                outermost = index;
+            }
+        }
+        return outermost != -1 && (outermost + 1 == stack.length
+                || !stack[outermost + 1].getClassName().startsWith("javax.swing."));
+    }
+
+    /**
+     * @param stack A stack.
+     * @return The first frame of the stack that is not part of the JDK or this watchdog, as a String.
+     */
+    private static String getCaller(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            String name = frame.getClassName();
+            if (!name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("sun.")
+                    && !name.startsWith(EdtWatchdog.class.getName())) {
+                return frame.toString();
+            }
+        }
+        return "";
+    }
+
+    /**
+     * @param stack A stack.
+     * @return The top frames of the stack, one per line.
+     */
+    private static String format(StackTraceElement[] stack) {
+        StringBuilder trace = new StringBuilder();
+        for (int index = 0; index < Math.min(stack.length, STACK_DEPTH); ++index) {
+            trace.append("\tat ").append(stack[index]).append('\n');
+        }
+        if (stack.length > STACK_DEPTH) {
+            trace.append("\t... ").append(stack.length - STACK_DEPTH).append(" more\n");
+        }
+        return trace.toString();
+    }
+
+    @Override
+    public long getStalls() {
+        return stalls.getValue();
+    }
+
+    @Override
+    public long getOffEdtCalls() {
+        return offEdtCalls.getValue();
+    }
+
+    @Override
+    public long getBlockedMillis() {
+        long since = waitingSince;
+        return (since == 0) ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - since);
+    }
+
+    @Override
+    public String getLastStall() {
+        return lastStall;
+    }
+
+    @Override
+    public String getLastOffEdtCall() {
+        return lastOffEdtCall;
+    }
+
+    /**
+     * A RepaintManager that reports components which are changed from threads other than the GUI thread.
+     */
+    private final class CheckingRepaintManager extends RepaintManager {
+
+        @Override
+        public void addInvalidComponent(JComponent invalidComponent) {
+            check();
+            super.addInvalidComponent(invalidComponent);
+        }
+
+        @Override
+        public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+            check();
+            super.addDirtyRegion(c, x, y, w, h);
+        }
+
+        /**
+         * Reports the call if it is not made from the GUI thread.
+         */
+        private void check() {
+            if (!SwingUtilities.isEventDispatchThread()) {
+                reportOffEdtCall(new Throwable().getStackTrace());
+            }
+        }
+    }
+}
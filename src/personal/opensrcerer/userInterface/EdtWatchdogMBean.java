@@ -0,0 +1,38 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.userInterface;
+
+/**
+ * The view of the EdtWatchdog over JMX.
+ */
+public interface EdtWatchdogMBean {
+
+    /**
+     * @return The number of times the GUI thread has been blocked for longer than the threshold.
+     */
+    long getStalls();
+
+    /**
+     * @return The number of Swing calls that have been made from threads other than the GUI thread.
+     */
+    long getOffEdtCalls();
+
+    /**
+     * @return How long the GUI thread has been blocked for right now, in milliseconds, or 0 if it is responsive.
+     */
+    long getBlockedMillis();
+
+    /**
+     * @return The stack of the GUI thread at the last stall, or an empty String if there has been none.
+     */
+    String getLastStall();
+
+    /**
+     * @return The stack of the last Swing call from another thread, or an empty String if there has been none.
+     */
+    String getLastOffEdtCall();
+}
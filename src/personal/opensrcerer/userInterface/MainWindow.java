@@ -7,15 +7,17 @@
 package personal.opensrcerer.userInterface;
 
 import personal.opensrcerer.RunProject;
+import personal.opensrcerer.userInterface.panels.CreditsPanel;
+import personal.opensrcerer.userInterface.panels.HelpPanel;
+import personal.opensrcerer.userInterface.panels.ImageCache;
 import personal.opensrcerer.userInterface.panels.PanelComponents;
 import personal.opensrcerer.userInterface.panels.StartPanel;
+import personal.opensrcerer.util.GameSession;
 
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.FloatControl;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.util.Arrays;
 
 /**
@@ -28,9 +30,19 @@ public final class MainWindow extends JFrame {
     private static MainWindow window;
 
     /**
-     * The Audio Clip that loops in the program.
+     * The game that is shown, or null if no game is shown. Only used by the GUI thread.
      */
-    private static Clip clip;
+    private static GameSession game;
+
+    /**
+     * Milliseconds to wait after the first frame before building the other screens.
+     */
+    private static final int PREWARM_DELAY = 500;
+
+    /**
+     * The music that loops in the program, streamed in the background.
+     */
+    private static final MusicPlayer music = new MusicPlayer(RunProject.class.getResource("/resources/highrollers.wav"));
 
     /**
      * Create a new instance of the Snake Eyes Game window.
@@ -38,18 +50,15 @@ public final class MainWindow extends JFrame {
     public MainWindow() {
         super("The One and Only Snake Eyes Game");
 
-        clip = null;
         try {
-            // Initialize Audio
-            AudioInputStream audioIn = AudioSystem.getAudioInputStream(RunProject.class.getResource("/resources/highrollers.wav"));
-            clip = AudioSystem.getClip();
-            clip.open(audioIn);
-            // Initialize used images
+            // Watch the GUI thread for stalls and for Swing calls from other threads
+            EdtWatchdog.start();
+            // Start decoding used images in the background
             PanelComponents.initializeImages();
             // Set singleton item
             window = this;
-            // Set logo for window
-            setIconImage(PanelComponents.getIcon(15).getImage());
+            // Set logo for window once it has been decoded
+            ImageCache.load(15).thenAccept(icon -> SwingUtilities.invokeLater(() -> setIconImage(icon.getImage())));
             // Show the GUI
             createAndShowGUI();
         } catch (Exception ex) {
@@ -69,6 +78,13 @@ public final class MainWindow extends JFrame {
      */
     public void createAndShowGUI() {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        // Abandon the game that is shown before the program exits
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                leaveGame();
+            }
+        });
         // Set up the content pane.
         StartPanel.setComponents(getContentPane());
         // Pack the window so that the components
@@ -78,28 +94,52 @@ public final class MainWindow extends JFrame {
         setResizable(false);
         // Display the window.
         setVisible(true);
-        // Start and loop the music
-        clip.start();
-        clip.loop(Integer.MAX_VALUE);
+        // Start and loop the music in the background
+        music.start();
+        // Build the other screens once the first frame has been shown, so their first visit is instant
+        Timer prewarm = new Timer(PREWARM_DELAY, e -> {
+            HelpPanel.prewarm();
+            CreditsPanel.prewarm();
+        });
+        prewarm.setRepeats(false);
+        prewarm.start();
     }
 
     /**
-     * Sets the volume of the playing clip - first turning the volume from a linear to a logarithmic scale.
+     * Sets the volume of the playing music.
      * @param volume The linear amount of volume to use.
      */
     public static void setVolume(float volume) {
-        // FloatControl uses a logarithmic amplitude! Corresponding linear multiplier:
-        // pow(10.0, gainDB/20.0)
-        FloatControl volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-        volumeControl.setValue((float) Math.log10(volume) * 20f); // Linear applied in reverse
+        music.setVolume(volume);
     }
 
     /**
-     * @return Whether the clip file is currently muted.
+     * @return Whether the music is currently muted.
      */
     public static boolean isMute() {
-        FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-        return ((float) Math.pow(10f, gainControl.getValue() / 20f)) <= 1.0E-3f;
+        return music.isMute();
+    }
+
+    /**
+     * Remembers the game that is now shown, and abandons the game that was shown before it, if any.
+     * @param session The game that is shown.
+     */
+    public static void showGame(GameSession session) {
+        if (game != null && game != session) {
+            game.close();
+        }
+        game = session;
+    }
+
+    /**
+     * Abandons the game that is shown, cancelling its scheduled tasks, as its screen is being left.
+     * Does nothing if no game is shown.
+     */
+    public static void leaveGame() {
+        if (game != null) {
+            game.close();
+            game = null;
+        }
     }
 
     /**
@@ -0,0 +1,198 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.userInterface;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.FloatControl;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Plays a track in a loop by streaming it to a SourceDataLine, instead of loading all of it into memory.
+ * One thread decodes the track into a small ring of buffers, and another one writes the buffers to the line,
+ * so the memory used is the same no matter how long the track is.
+ */
+public final class MusicPlayer {
+
+    /**
+     * The size of every buffer in the ring, in bytes.
+     */
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * The number of buffers in the ring.
+     */
+    private static final int BUFFERS = 4;
+
+    /**
+     * Linear volumes at or below this are considered muted.
+     */
+    private static final float MUTE_VOLUME = 1.0E-3f;
+
+    /**
+     * A buffer of the ring, with the number of bytes in it that are audio.
+     */
+    private static final class Chunk {
+        /**
+         * The bytes of the buffer, of which only the first length are audio.
+         */
+        private final byte[] data = new byte[BUFFER_SIZE];
+
+        /**
+         * The number of bytes at the start of data that are audio.
+         */
+        private int length;
+    }
+
+    /**
+     * The track to play.
+     */
+    private final URL track;
+
+    /**
+     * Buffers that can be filled by the decoder.
+     */
+    private final BlockingQueue<Chunk> free = new ArrayBlockingQueue<>(BUFFERS);
+
+    /**
+     * Buffers that have been filled and are waiting to be played, in order.
+     */
+    private final BlockingQueue<Chunk> filled = new ArrayBlockingQueue<>(BUFFERS);
+
+    /**
+     * The linear volume of the music, from 0 - 1.
+     */
+    private volatile float volume = 1f;
+
+    /**
+     * The line that the music is played on, or null if it has not been opened yet.
+     */
+    private volatile SourceDataLine line;
+
+    /**
+     * Create a new player.
+     * @param track The track to play, or null if it is missing, in which case nothing is played.
+     */
+    public MusicPlayer(URL track) {
+        this.track = track;
+        for (int buffer = 0; buffer < BUFFERS; ++buffer) {
+            free.add(new Chunk());
+        }
+    }
+
+    /**
+     * Starts playing the track in a loop, in the background, until the program exits. Returns right away.
+     */
+    public void start() {
+        if (track == null) {
+            System.out.println("Something went wrong! The music track is missing, playing without music.");
+            return;
+        }
+        Thread player = new Thread(this::play, "Music Player");
+        player.setDaemon(true); // Do not keep the program running for music
+        player.start();
+    }
+
+    /**
+     * Sets the volume of the music - first turning the volume from a linear to a logarithmic scale.
+     * @param volume The linear amount of volume to use.
+     */
+    public void setVolume(float volume) {
+        this.volume = volume;
+        SourceDataLine playing = line;
+        if (playing != null) {
+            applyVolume(playing);
+        }
+    }
+
+    /**
+     * @return Whether the music is currently muted.
+     */
+    public boolean isMute() {
+        return volume <= MUTE_VOLUME;
+    }
+
+    /**
+     * Opens the line, starts the decoder, and writes the decoded buffers to the line until the program exits.
+     */
+    private void play() {
+        try {
+            AudioFormat format;
+            try (AudioInputStream header = AudioSystem.getAudioInputStream(track)) {
+                format = header.getFormat();
+            }
+            SourceDataLine opened = AudioSystem.getSourceDataLine(format);
+            opened.open(format);
+            applyVolume(opened);
+            opened.start();
+            line = opened;
+
+            Thread decoder = new Thread(this::decode, "Music Decoder");
+            decoder.setDaemon(true);
+            decoder.start();
+
+            while (true) {
+                Chunk chunk = filled.take();
+                opened.write(chunk.data, 0, chunk.length); // Blocks while the line is full
+                free.add(chunk);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | UnsupportedAudioFileException | LineUnavailableException | IllegalArgumentException ex) {
+            System.out.println("Something went wrong! Music could not be played: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Reads the track into free buffers until the program exits, starting over at its end.
+     */
+    private void decode() {
+        try {
+            while (true) {
+                try (AudioInputStream stream = AudioSystem.getAudioInputStream(track)) {
+                    int length = 0;
+                    while (length >= 0) {
+                        Chunk chunk = free.take();
+                        length = stream.read(chunk.data, 0, BUFFER_SIZE);
+                        if (length > 0) {
+                            chunk.length = length;
+                            filled.put(chunk);
+                        } else {
+                            free.add(chunk); // End of the track, loop from the start
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | UnsupportedAudioFileException ex) {
+            System.out.println("Something went wrong! Music could not be read: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Applies the volume to a line, if the line supports it.
+     * @param target The line to change the volume of.
+     */
+    private void applyVolume(SourceDataLine target) {
+        if (!target.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            return;
+        }
+        // FloatControl uses a logarithmic amplitude! Corresponding linear multiplier:
+        // pow(10.0, gainDB/20.0)
+        FloatControl volumeControl = (FloatControl) target.getControl(FloatControl.Type.MASTER_GAIN);
+        float gain = (float) Math.log10(volume) * 20f; // Linear applied in reverse
+        volumeControl.setValue(Math.max(volumeControl.getMinimum(), Math.min(volumeControl.getMaximum(), gain)));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.userInterface;
+
+import personal.opensrcerer.metrics.Histogram;
+import personal.opensrcerer.metrics.MetricsRegistry;
+
+import javax.swing.*;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects GUI elements that have changed and updates all of them in a single pass on the GUI thread, once per frame.
+ * Elements that change many times within a frame are only updated once, with their latest state.
+ */
+public final class RepaintScheduler {
+
+    /**
+     * The length of a frame in milliseconds, about 60 frames per second.
+     */
+    private static final int FRAME_MILLIS = 16;
+
+    /**
+     * Elements that have changed since the last frame.
+     */
+    private static final Set<Updatable> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Used to show if a frame has already been scheduled.
+     */
+    private static final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * The Timer that fires the next frame on the GUI thread.
+     */
+    private static final Timer timer = new Timer(FRAME_MILLIS, e -> flush());
+
+    /**
+     * How long the GUI thread takes to update the elements of a frame.
+     */
+    private static final Histogram frameTime =
+            MetricsRegistry.histogram("ui_frame_seconds",
+                    "Time that the GUI thread takes to update the changed elements of a frame.");
+
+    static {
+        timer.setRepeats(false);
+        // A frame that is scheduled while a long one still runs must not be coalesced away,
+        // or scheduled would stay set and no frame would ever be scheduled again
+        timer.setCoalesce(false);
+    }
+
+    /**
+     * Marks an element as changed, so that it is updated in the next frame. Can be called from any thread.
+     * @param element The element that has changed.
+     */
+    public static void markDirty(Updatable element) {
+        dirty.add(element);
+        if (scheduled.compareAndSet(false, true)) {
+            timer.start();
+        }
+    }
+
+    /**
+     * Updates every element that has changed since the last frame.
+     */
+    private static void flush() {
+        // Allow the next frame to be scheduled before draining, so no change is missed
+        scheduled.set(false);
+        long start = System.nanoTime();
+        Iterator<Updatable> elements = dirty.iterator();
+        while (elements.hasNext()) {
+            Updatable element = elements.next();
+            elements.remove();
+            try {
+                element.applyUpdate();
+            } catch (Exception ex) {
+                System.out.println("Something went wrong! " + ex.getMessage());
+            }
+        }
+        frameTime.recordSince(start);
+    }
+}
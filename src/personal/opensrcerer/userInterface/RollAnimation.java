@@ -0,0 +1,102 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.userInterface;
+
+import personal.opensrcerer.engine.Dice;
+import personal.opensrcerer.userInterface.panels.Diceboard;
+
+import javax.swing.*;
+
+/**
+ * Plays the dice being rolled as a timeline of frames on a Swing Timer.
+ * Every frame runs on the GUI thread, so no other thread is blocked while the dice are rolling.
+ */
+public class RollAnimation {
+
+    /**
+     * The number of random dice shown before the final dice.
+     */
+    private static final int FRAMES = 19;
+
+    /**
+     * The Timer that fires every frame.
+     */
+    private final Timer timer;
+
+    /**
+     * The Diceboard that shows the frames.
+     */
+    private final Diceboard diceboard;
+
+    /**
+     * Runs on the GUI thread after the last frame, unless the animation is cancelled.
+     */
+    private final Runnable onFinish;
+
+    /**
+     * The number of frames that have been shown.
+     */
+    private int frame;
+
+    /**
+     * Used to show if the animation has been cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Create a new animation.
+     * @param diceboard The Diceboard that shows the frames.
+     * @param onFinish Runs on the GUI thread after the last frame, unless the animation is cancelled.
+     */
+    public RollAnimation(Diceboard diceboard, Runnable onFinish) {
+        this.diceboard = diceboard;
+        this.onFinish = onFinish;
+        this.timer = new Timer(getDelay(0), e -> nextFrame());
+        this.timer.setRepeats(false);
+    }
+
+    /**
+     * Starts playing the animation. Can be called from any thread.
+     */
+    public void start() {
+        timer.start();
+    }
+
+    /**
+     * Stops the animation, so that no more frames are shown and it never finishes. Can be called from any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+        timer.stop();
+    }
+
+    /**
+     * Shows the next frame, and finishes the animation after the last one.
+     */
+    private void nextFrame() {
+        if (cancelled) {
+            return;
+        }
+
+        diceboard.refresh(Dice.random());
+        if (++frame < FRAMES) {
+            timer.setInitialDelay(getDelay(frame));
+            timer.start();
+        } else {
+            onFinish.run();
+        }
+    }
+
+    /**
+     * Random function I made up to make timer look interesting.
+     * @param frame The number of the frame.
+     * @return The delay before the frame, in milliseconds.
+     */
+    private static int getDelay(int frame) {
+        return (int) ((1/3f * Math.pow(frame, 2)) + 100);
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.userInterface;
+
+/**
+ * A GUI element that keeps its latest state aside and shows it when the RepaintScheduler asks it to.
+ */
+public interface Updatable {
+
+    /**
+     * Shows the latest state on the GUI, then revalidates and repaints.
+     * Always called on the GUI thread, at most once per frame.
+     */
+    void applyUpdate();
+}
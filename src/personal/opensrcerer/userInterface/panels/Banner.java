@@ -6,7 +6,10 @@
 
 package personal.opensrcerer.userInterface.panels;
 
-import personal.opensrcerer.util.SnakeEyes;
+import personal.opensrcerer.engine.GameSnapshot;
+import personal.opensrcerer.userInterface.RepaintScheduler;
+import personal.opensrcerer.userInterface.Updatable;
+import personal.opensrcerer.util.GameSession;
 
 import javax.swing.*;
 import java.awt.*;
@@ -15,22 +18,36 @@ import static personal.opensrcerer.userInterface.panels.PanelComponents.*;
 
 /**
  * The top banner that contains the announcement text.
+ * The text is shown by the RepaintScheduler, so the banner can be updated from any thread.
+ * While an earlier version of the game is viewed, the banner shows which one instead.
  */
-public class Banner extends JPanel {
+public class Banner extends JPanel implements Updatable {
+
+    /**
+     * The game that this banner belongs to.
+     */
+    private final GameSession session;
 
     /**
      * The label that contains this banner's text.
      */
     private final JLabel bannerText;
 
+    /**
+     * The latest text of this banner, that is shown in the next frame.
+     */
+    private volatile String pendingText;
+
     /**
      * Create a new preset banner.
+     * @param session The game that this banner belongs to.
      */
-    public Banner() {
+    public Banner(GameSession session) {
         super();
         setBackground(discordGrayer);
-        bannerText = getLabel("Round (" + SnakeEyes.getCurrentRound() + "/" + SnakeEyes.getTotalRounds() + ") // Roll, " +
-                SnakeEyes.getPlayerOnTurn().getPlayerName() + "!", bigTitleFont);
+        this.session = session;
+        pendingText = getRollMessage(session.getSnapshot());
+        bannerText = getLabel(pendingText, bigTitleFont);
         add(bannerText, BorderLayout.CENTER);
     }
 
@@ -39,12 +56,10 @@ public class Banner extends JPanel {
      */
     public void update() {
         // Show the round message if the current player is not a bot.
-        if (!SnakeEyes.getPlayerOnTurn().isCpu()) {
-            bannerText.setText("Round (" + SnakeEyes.getCurrentRound() + "/" + SnakeEyes.getTotalRounds() + ") // Roll, " +
-                    SnakeEyes.getPlayerOnTurn().getPlayerName() + "!");
+        GameSnapshot game = session.getSnapshot();
+        if (!game.getPlayerOnTurn().cpu()) {
+            setText(getRollMessage(game));
         }
-        revalidate();
-        repaint();
     }
 
     /**
@@ -54,11 +69,52 @@ public class Banner extends JPanel {
      */
     public void update(String text, boolean skipForBots) {
         // Show a custom message if the current player is not a bot.
-        if (!SnakeEyes.getPlayerOnTurn().isCpu()) {
-            bannerText.setText(text);
+        if (!session.getPlayerOnTurn().cpu()) {
+            setText(text);
         } else if (!skipForBots) {
-            bannerText.setText(text);
+            setText(text);
         }
+    }
+
+    /**
+     * Keeps the text aside and marks this banner to be shown in the next frame.
+     * @param text Text to update this Banner to.
+     */
+    private void setText(String text) {
+        pendingText = text;
+        RepaintScheduler.markDirty(this);
+    }
+
+    /**
+     * Marks this banner to show the version of the game that is viewed, or the latest text again, in the next frame.
+     */
+    public void refreshView() {
+        RepaintScheduler.markDirty(this);
+    }
+
+    /**
+     * @param game A snapshot of the game.
+     * @return The message that asks the player on turn to roll.
+     */
+    private static String getRollMessage(GameSnapshot game) {
+        return "Round (" + game.getCurrentRound() + "/" + game.getTotalRounds() + ") // Roll, " +
+                game.getPlayerOnTurn().name() + "!";
+    }
+
+    /**
+     * @param version An earlier version of the game.
+     * @param latest The latest version of the game.
+     * @return The message that tells which version of the game is shown.
+     */
+    private static String getHistoryMessage(GameSnapshot version, GameSnapshot latest) {
+        return "History (" + version.getVersion() + "/" + latest.getVersion() + ") // Round (" +
+                version.getCurrentRound() + "/" + version.getTotalRounds() + ")";
+    }
+
+    @Override
+    public void applyUpdate() {
+        GameSnapshot viewed = session.getViewedVersion();
+        bannerText.setText((viewed != null) ? getHistoryMessage(viewed, session.getSnapshot()) : pendingText);
         revalidate();
         repaint();
     }
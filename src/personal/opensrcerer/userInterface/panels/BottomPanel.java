@@ -57,7 +57,7 @@ public class BottomPanel extends JPanel {
             updateSpeaker(volume);
         });
 
-        speakerButton = new JLabel(imagesList[7]); // Get unmute speaker
+        speakerButton = new JLabel(getIcon(7)); // Get unmute speaker
         speakerButton.setBackground(discordGrayer);
         speakerButton.addMouseListener(getAdapter());
 
@@ -76,9 +76,9 @@ public class BottomPanel extends JPanel {
      */
     private void updateSpeaker(float volume) {
         if (volume == 0f) {
-            speakerButton.setIcon(imagesList[8]); // Set mute speaker
+            speakerButton.setIcon(getIcon(8)); // Set mute speaker
         } else if (volume > 0f) {
-            speakerButton.setIcon(imagesList[7]); // Set unmute speaker
+            speakerButton.setIcon(getIcon(7)); // Set unmute speaker
         }
     }
 
@@ -118,9 +118,9 @@ public class BottomPanel extends JPanel {
     public void refresh() {
         slider.setValue(sliderPosition);
         if (isMute()) {
-            speakerButton.setIcon(imagesList[8]);
+            speakerButton.setIcon(getIcon(8));
         } else {
-            speakerButton.setIcon(imagesList[7]);
+            speakerButton.setIcon(getIcon(7));
         }
     }
 }
@@ -22,14 +22,21 @@ public abstract class CreditsPanel {
     /**
      * The final panel for the credits components.
      */
-    private static final JPanel creditsPanel;
+    private static JPanel creditsPanel;
 
     /**
      * Bottom panel instance.
      */
-    private static final BottomPanel bottomPanel;
+    private static BottomPanel bottomPanel;
 
-    static {
+    /**
+     * Builds the credits components, so that they are ready for the first visit.
+     * Does nothing if they have already been built. Must be called from the GUI thread.
+     */
+    public static void prewarm() {
+        if (creditsPanel != null) {
+            return;
+        }
         final JPanel infoPanel = getJPanel(BoxLayout.PAGE_AXIS);
         final JPanel imagePanel = getJPanel();
         final JPanel buttonPanel = getJPanel();
@@ -59,6 +66,7 @@ public abstract class CreditsPanel {
      * @param pane Target ContentPane.
      */
     public static void setComponents(final Container pane) {
+        prewarm(); // Build the components on the first visit
         pane.add(creditsPanel);
         bottomPanel.refresh();
     }
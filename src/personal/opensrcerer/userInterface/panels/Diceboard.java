@@ -6,8 +6,12 @@
 
 package personal.opensrcerer.userInterface.panels;
 
-import personal.opensrcerer.util.Player;
-import personal.opensrcerer.util.SnakeEyes;
+import personal.opensrcerer.engine.Dice;
+import personal.opensrcerer.engine.GameSnapshot;
+import personal.opensrcerer.engine.PlayerSnapshot;
+import personal.opensrcerer.userInterface.RepaintScheduler;
+import personal.opensrcerer.userInterface.Updatable;
+import personal.opensrcerer.util.GameSession;
 
 import javax.swing.*;
 import java.awt.*;
@@ -16,8 +20,23 @@ import static personal.opensrcerer.userInterface.panels.PanelComponents.*;
 
 /**
  * The JPanel that displays the player's current dice.
+ * The dice are shown by the RepaintScheduler, so the Diceboard can be updated from any thread.
+ * While an earlier version of the game is viewed, the Diceboard shows the last roll of that version instead.
  */
-public class Diceboard extends JPanel {
+public class Diceboard extends JPanel implements Updatable {
+
+    /**
+     * The dice that this Diceboard shows, taken when it was last updated.
+     * @param name The name of the player whose dice are shown.
+     * @param pointRoll The roll index of the player's point dice.
+     * @param roll The roll index of the player's current dice.
+     */
+    private record DiceView(String name, int pointRoll, int roll) {}
+
+    /**
+     * The game that this Diceboard belongs to.
+     */
+    private final GameSession session;
 
     /**
      * JLabel for the first point die.
@@ -49,25 +68,33 @@ public class Diceboard extends JPanel {
      */
     private final JLabel currentDiceLabel;
 
+    /**
+     * The latest dice of this Diceboard, that are shown in the next frame.
+     */
+    private volatile DiceView pendingView;
+
     /**
      * Returns a Diceboard.
+     * @param session The game that this Diceboard belongs to.
      */
-    public Diceboard() {
+    public Diceboard(GameSession session) {
         super();
         setLayout(new BoxLayout(this, BoxLayout.PAGE_AXIS));
         setBackground(discordGrayer);
+        this.session = session;
 
         // Retrieve the current player from the game.
-        Player currentPlayer = SnakeEyes.getPlayerOnTurn();
+        PlayerSnapshot currentPlayer = session.getPlayerOnTurn();
 
         // Init all Diceboard dice with a 10.
-        pointDie1 = getImageLabel(currentPlayer.getPointDice()[0] - 1);
-        pointDie2 = getImageLabel(currentPlayer.getPointDice()[1] - 1);
+        pointDie1 = getImageLabel(Dice.first(currentPlayer.pointRoll()) - 1);
+        pointDie2 = getImageLabel(Dice.second(currentPlayer.pointRoll()) - 1);
         rollDie1 = getImageLabel(10);
         rollDie2 = getImageLabel(10);
         // Change all the Diceboard labels to default values.
-        pointDiceLabel = getLabel(currentPlayer.getPlayerName() + "'s Point Dice: ", titleFont);
-        currentDiceLabel = getLabel(currentPlayer.getPlayerName() + "'s Current Dice: ", titleFont);
+        pointDiceLabel = getLabel(currentPlayer.name() + "'s Point Dice: ", titleFont);
+        currentDiceLabel = getLabel(currentPlayer.name() + "'s Current Dice: ", titleFont);
+        pendingView = new DiceView(currentPlayer.name(), currentPlayer.pointRoll(), Dice.UNROLLED);
 
         JPanel pointDice = getJPanel(BoxLayout.LINE_AXIS);
         JPanel rollDice = getJPanel(BoxLayout.LINE_AXIS);
@@ -94,37 +121,74 @@ public class Diceboard extends JPanel {
 
     /**
      * Update the dynamic elements of this Diceboard.
-     * @param rollDice The dice to show in the "Current Dice" panel.
+     * @param player The player whose dice to show.
+     * @param roll The roll index of the dice to show in the "Current Dice" panel.
      */
-    public void updateElements(short[] rollDice) {
-        Player player = SnakeEyes.getPlayerOnTurn();
+    public void updateElements(PlayerSnapshot player, int roll) {
+        // Take the player's dice now, as the turn may have moved on by the next frame
+        pendingView = new DiceView(player.name(), player.pointRoll(), roll);
+        RepaintScheduler.markDirty(this);
+    }
+
+    /**
+     * Marks this Diceboard to show the version of the game that is viewed, or the latest dice again, in the next frame.
+     */
+    public void refreshView() {
+        RepaintScheduler.markDirty(this);
+    }
+
+    /**
+     * @param version A version of the game.
+     * @return The last roll of that version, or the dice of the player on turn if nobody had rolled.
+     */
+    private static DiceView getView(GameSnapshot version) {
+        PlayerSnapshot player = version.getLastRoller();
+        if (player == null) {
+            player = version.getPlayerOnTurn();
+        }
+        return new DiceView(player.name(), player.pointRoll(), version.getLastRoll());
+    }
+
+    @Override
+    public void applyUpdate() {
+        GameSnapshot viewed = session.getViewedVersion();
+        DiceView view = (viewed != null) ? getView(viewed) : pendingView;
 
         // Update the icons of all the dice.
         // All values are decremented to convert from value to index.
-        pointDie1.setIcon(imagesList[player.getPointDice()[0] - 1]);
-        pointDie2.setIcon(imagesList[player.getPointDice()[1] - 1]);
-        rollDie1.setIcon(imagesList[rollDice[0] - 1]);
-        rollDie2.setIcon(imagesList[rollDice[1] - 1]);
+        pointDie1.setIcon(getIcon(Dice.first(view.pointRoll()) - 1));
+        pointDie2.setIcon(getIcon(Dice.second(view.pointRoll()) - 1));
+        rollDie1.setIcon(getIcon(Dice.first(view.roll()) - 1));
+        rollDie2.setIcon(getIcon(Dice.second(view.roll()) - 1));
 
-        pointDiceLabel.setText(player.getPlayerName() + "'s Point Dice: ");
-        currentDiceLabel.setText(player.getPlayerName() + "'s Current Dice: ");
+        pointDiceLabel.setText(view.name() + "'s Point Dice: ");
+        currentDiceLabel.setText(view.name() + "'s Current Dice: ");
 
         revalidate();
         repaint();
     }
 
+    /**
+     * Update changes on this DiceBoard, for the player on turn.
+     * @param roll The roll index of the dice that were just rolled.
+     */
+    public void refresh(int roll) {
+        updateElements(session.getPlayerOnTurn(), roll);
+    }
+
     /**
      * Update changes on this DiceBoard.
-     * @param rollDice The dice that were just rolled.
+     * @param player The player whose dice to show.
+     * @param roll The roll index of the dice that were just rolled.
      */
-    public void refresh(short[] rollDice) {
-        updateElements(rollDice);
+    public void refresh(PlayerSnapshot player, int roll) {
+        updateElements(player, roll);
     }
 
     /**
-     * Update changes on this DiceBoard, using blank dice for the rolled dice.
+     * Update changes on this DiceBoard for the player on turn, using blank dice for the rolled dice.
      */
     public void refreshUnrolled() {
-        updateElements(new short[] { 11, 11 });
+        updateElements(session.getPlayerOnTurn(), Dice.UNROLLED);
     }
 }
@@ -6,7 +6,8 @@
 
 package personal.opensrcerer.userInterface.panels;
 
-import personal.opensrcerer.util.SnakeEyes;
+import personal.opensrcerer.util.ButtonType;
+import personal.opensrcerer.util.GameSession;
 
 import javax.swing.*;
 import java.awt.*;
@@ -21,8 +22,9 @@ public abstract class GamePanel {
     /**
      * Set all the components of the given ContentPane to the GamePanel components.
      * @param pane ContentPane of MainWindow's JFrame.
+     * @param session The game to show.
      */
-    public static void setComponents(final Container pane) {
+    public static void setComponents(final Container pane, final GameSession session) {
         final JPanel totalPanel = getJPanel(BoxLayout.PAGE_AXIS),
                 scoreboardPanel = getJPanel(BoxLayout.PAGE_AXIS),
                 gamePanelSep = getJPanel(BoxLayout.PAGE_AXIS),
@@ -39,13 +41,17 @@ public abstract class GamePanel {
         scoreboardPanel.add(Box.createRigidArea(new Dimension(0, 35)));
         scoreboardPanel.add(getSkeletonLogo());
         scoreboardPanel.add(Box.createRigidArea(new Dimension(0, 36)));
-        scoreboardPanel.add(SnakeEyes.getScoreboard());
+        scoreboardPanel.add(session.getScoreboard());
 
         gamePanelSep.add(Box.createRigidArea(new Dimension(0, 20)));
-        gamePanelSep.add(SnakeEyes.getDiceboard());
+        gamePanelSep.add(session.getDiceboard());
         gamePanelSep.add(Box.createRigidArea(new Dimension(0, 20)));
         gamePanelSep.add(sep2);
-        gamePanelSep.add(SnakeEyes.getRollButton());
+        gamePanelSep.add(session.getRollButton());
+        gamePanelSep.add(getHistoryControls(session));
+        if (session.isBotTable()) {
+            gamePanelSep.add(getBotControls(session));
+        }
 
         wholeSep.add(sep);
         wholeSep.add(gamePanelSep);
@@ -53,7 +59,7 @@ public abstract class GamePanel {
         gridPanel.add(scoreboardPanel);
         gridPanel.add(wholeSep);
 
-        totalPanel.add(SnakeEyes.getBanner());
+        totalPanel.add(session.getBanner());
         totalPanel.add(getSeparator());
         totalPanel.add(gridPanel);
         totalPanel.add(getSeparator());
@@ -61,4 +67,35 @@ public abstract class GamePanel {
 
         pane.add(totalPanel);
     }
+
+    /**
+     * @param session The game that the controls act on.
+     * @return A JPanel with the buttons that step through the versions of the game, and take it back to one.
+     */
+    private static JPanel getHistoryControls(final GameSession session) {
+        final JPanel historyControls = getJPanel(BoxLayout.LINE_AXIS);
+
+        historyControls.add(getBorderedButton("< Earlier", ButtonType.EARLIER, session));
+        historyControls.add(Box.createRigidArea(new Dimension(10, 0)));
+        historyControls.add(getBorderedButton("Undo", ButtonType.UNDO, session));
+        historyControls.add(Box.createRigidArea(new Dimension(10, 0)));
+        historyControls.add(getBorderedButton("Later >", ButtonType.LATER, session));
+        return historyControls;
+    }
+
+    /**
+     * @param session The game that the controls act on.
+     * @return A JPanel with the turbo mode toggle and the fast-forward button, for bot tables.
+     */
+    private static JPanel getBotControls(final GameSession session) {
+        final JPanel botControls = getJPanel(BoxLayout.LINE_AXIS);
+
+        JCheckBox turboBox = getCheckBox("Turbo", false);
+        turboBox.addActionListener(e -> session.setTurbo(turboBox.isSelected()));
+
+        botControls.add(turboBox);
+        botControls.add(Box.createRigidArea(new Dimension(10, 0)));
+        botControls.add(getBorderedButton("Fast-forward", ButtonType.FAST_FORWARD, session));
+        return botControls;
+    }
 }
\ No newline at end of file
@@ -21,14 +21,21 @@ public abstract class HelpPanel {
     /**
      * The final panel for the help components.
      */
-    private static final JPanel helpPanel;
+    private static JPanel helpPanel;
 
     /**
      * Bottom panel instance.
      */
-    private static final BottomPanel bottomPanel;
+    private static BottomPanel bottomPanel;
 
-    static {
+    /**
+     * Builds the help components, so that they are ready for the first visit.
+     * Does nothing if they have already been built. Must be called from the GUI thread.
+     */
+    public static void prewarm() {
+        if (helpPanel != null) {
+            return;
+        }
         final JPanel infoPanel = getJPanel(BoxLayout.PAGE_AXIS);
         final JPanel buttonPanel = getJPanel();
         helpPanel = getJPanel();
@@ -36,7 +43,7 @@ public abstract class HelpPanel {
 
         buttonPanel.add(getButton("Back", ButtonType.BACK));
 
-        JLabel helpLabel = getImageLabel(14);
+        JLabel helpLabel = getLazyImageLabel(14);
         helpLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         infoPanel.add(helpLabel);
         infoPanel.add(buttonPanel);
@@ -51,6 +58,7 @@ public abstract class HelpPanel {
      * @param pane Target ContentPane.
      */
     public static void setComponents(final Container pane) {
+        prewarm(); // Build the components on the first visit
         pane.add(helpPanel);
         bottomPanel.refresh();
     }
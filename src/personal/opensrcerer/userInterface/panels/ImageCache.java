@@ -0,0 +1,111 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.userInterface.panels;
+
+import personal.opensrcerer.RunProject;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Decodes the images of the resources project dir on a background pool, each one only once.
+ * Images are decoded in parallel, in the order they are first asked for.
+ */
+public final class ImageCache {
+
+    /**
+     * The file of every image, by its index.
+     */
+    private static final String[] FILES = {
+            "die1.png", "die2.png", "die3.png", "die4.png", "die5.png", "die6.png", // 0 - 5
+            "logo.png", "speaker32.png", "speaker32m.png", "skelly.png", "dieq.png", // 6 - 10
+            "roll.png", "cursor.png", "back.png", "helpChart.png", "goldenDie.png" // 11 - 15
+    };
+
+    /**
+     * The number of images.
+     */
+    public static final int SIZE = FILES.length;
+
+    /**
+     * ExecutorService with threads that decode the images.
+     */
+    private static final ExecutorService loader = Executors.newFixedThreadPool(
+            Math.min(4, Runtime.getRuntime().availableProcessors()), r -> {
+                Thread thread = new Thread(r, "Image Loader");
+                thread.setDaemon(true); // Do not keep the program running for images
+                return thread;
+            });
+
+    /**
+     * Every image that has been asked for, by its index.
+     */
+    private static final Map<Integer, CompletableFuture<ImageIcon>> images = new ConcurrentHashMap<>();
+
+    /**
+     * Starts decoding an image in the background, if it has not been started already.
+     * @param index Index of the image.
+     * @return The image, when it has been decoded.
+     * @throws IllegalArgumentException If there is no image with the index.
+     */
+    public static CompletableFuture<ImageIcon> load(int index) {
+        if (index < 0 || index >= SIZE) {
+            throw new IllegalArgumentException("Invalid image index");
+        }
+        return images.computeIfAbsent(index, i -> CompletableFuture.supplyAsync(() -> decode(i), loader));
+    }
+
+    /**
+     * Starts decoding images in the background, in the given order.
+     * @param indices Indices of the images.
+     */
+    public static void prefetch(int... indices) {
+        for (int index : indices) {
+            load(index);
+        }
+    }
+
+    /**
+     * Returns an image, waiting for it to be decoded if it has not been already.
+     * @param index Index of the image.
+     * @return The decoded image.
+     * @throws IllegalArgumentException If there is no image with the index.
+     * @throws java.util.concurrent.CompletionException If the image could not be decoded.
+     */
+    public static ImageIcon get(int index) {
+        return load(index).join();
+    }
+
+    /**
+     * Reads an image from the resources project dir.
+     * @param index Index of the image.
+     * @return The decoded image.
+     * @throws UncheckedIOException If the image is missing or could not be read.
+     */
+    private static ImageIcon decode(int index) {
+        // Retrieve a resource using a base class as a reference point.
+        URL url = RunProject.class.getResource("/resources/" + FILES[index]);
+        try {
+            BufferedImage image = (url == null) ? null : ImageIO.read(url);
+            if (image == null) {
+                throw new IOException("Image " + FILES[index] + " is missing or unreadable!");
+            }
+            return new ImageIcon(image);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
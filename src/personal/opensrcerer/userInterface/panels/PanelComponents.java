@@ -10,7 +10,7 @@ import personal.opensrcerer.RunProject;
 import personal.opensrcerer.actions.RollRequest;
 import personal.opensrcerer.userInterface.MainWindow;
 import personal.opensrcerer.util.ButtonType;
-import personal.opensrcerer.util.SnakeEyes;
+import personal.opensrcerer.util.GameSession;
 
 import javax.swing.*;
 import javax.swing.border.Border;
@@ -18,6 +18,7 @@ import javax.swing.border.TitledBorder;
 import javax.swing.event.ChangeListener;
 import java.awt.*;
 import java.awt.event.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class is used to retrieve custom stylized JComponents
@@ -64,25 +65,29 @@ public final class PanelComponents {
     private static final Font outputFont = new Font("Arial", Font.ITALIC, 13);
     // -------------------------------------------
 
-    // -------- Images --------
     /**
-     * A list of static images that is used throughout the program.
+     * Retrieves a custom JButton.
+     * @param buttonName Name and initial text of button.
+     * @param type Type of button.
+     * @return Customized JButton.
      */
-    static ImageIcon[] imagesList;
-    // ------------------------
+    public static JButton getButton(String buttonName, ButtonType type) {
+        return getButton(buttonName, type, null);
+    }
 
     /**
-     * Retrieves a custom JButton.
+     * Retrieves a custom JButton for a button that acts on a game.
      * @param buttonName Name and initial text of button.
      * @param type Type of button.
+     * @param session The game that the button acts on.
      * @return Customized JButton.
      */
-    public static JButton getButton(String buttonName, ButtonType type) {
+    public static JButton getButton(String buttonName, ButtonType type, GameSession session) {
         JButton button = new JButton();
         button.setHorizontalAlignment(SwingConstants.CENTER);
         setButtonPalette(buttonName, button);
         setMouseListener(button);
-        button.addActionListener(getListener(type));
+        button.addActionListener(getListener(type, session));
         return button;
     }
 
@@ -93,8 +98,19 @@ public final class PanelComponents {
      * @return A custom button inside a JPanel that has a border.
      */
     public static JPanel getBorderedButton(String buttonName, ButtonType type) {
+        return getBorderedButton(buttonName, type, null);
+    }
+
+    /**
+     * @param buttonName Name of button.
+     * @param type Type of button. See ButtonType.
+     * @param session The game that the button acts on.
+     * @see ButtonType
+     * @return A custom button inside a JPanel that has a border, for a button that acts on a game.
+     */
+    public static JPanel getBorderedButton(String buttonName, ButtonType type, GameSession session) {
         JPanel panel = new JPanel(new GridLayout(1, 1));
-        JButton button = getButton(buttonName, type);
+        JButton button = getButton(buttonName, type, session);
         button.setFocusPainted(false);
         panel.add(button);
         panel.setBorder(BorderFactory.createLineBorder(discordLessGray, 1));
@@ -121,14 +137,13 @@ public final class PanelComponents {
             MainWindow.getWindowPane().removeAll();
             MainWindow.getWindowPane().setCursor(Cursor.getDefaultCursor());
             // Create a new game
-            SnakeEyes.resetGame(playerBox.getPlayers(), roundBox.getSelectedIndex() + 1);
+            GameSession session = new GameSession(playerBox.createStates(), (Integer) roundBox.getSelectedItem());
             // Switch window context
-            GamePanel.setComponents(MainWindow.getWindowPane());
+            MainWindow.showGame(session);
+            GamePanel.setComponents(MainWindow.getWindowPane(), session);
             MainWindow.updateJFrame();
             // If the first player is a bot, start automatically.
-            if (SnakeEyes.getPlayerOnTurn().isCpu()) {
-                new RollRequest(SnakeEyes.getPlayerOnTurn());
-            }
+            session.start();
         });
         // Panel Styling and return
         panel.add(button);
@@ -156,11 +171,11 @@ public final class PanelComponents {
     }
 
     /**
-     * @param iconIndex Index of the icon in the images array.
-     * @return A selected ImageIcon.
+     * @param iconIndex Index of the icon in the ImageCache.
+     * @return A selected ImageIcon, waiting for it to be decoded if it has not been already.
      */
     public static ImageIcon getIcon(int iconIndex) {
-        return imagesList[iconIndex];
+        return ImageCache.get(iconIndex);
     }
 
     /**
@@ -282,20 +297,37 @@ public final class PanelComponents {
      * an image instead of text.
      */
     public static JLabel getImageLabel(int imageNumber) {
-        if (imageNumber < 0 || imageNumber > imagesList.length - 1) {
-            throw new IllegalArgumentException("Invalid image index");
-        }
-        JLabel picLabel = new JLabel(imagesList[imageNumber]);
+        JLabel picLabel = new JLabel(ImageCache.get(imageNumber));
         picLabel.setBackground(discordGrayer);
         return picLabel;
     }
 
+    /**
+     * @param imageNumber Number of the image to use.
+     * @return A custom JLabel that shows an image as soon as it has been decoded,
+     * so that large images do not hold up the screen that shows them.
+     */
+    public static JLabel getLazyImageLabel(int imageNumber) {
+        JLabel picLabel = new JLabel();
+        picLabel.setBackground(discordGrayer);
+        CompletableFuture<ImageIcon> image = ImageCache.load(imageNumber);
+        if (image.isDone() && !image.isCompletedExceptionally()) {
+            picLabel.setIcon(image.join());
+        } else {
+            image.thenAccept(icon -> SwingUtilities.invokeLater(() -> {
+                picLabel.setIcon(icon);
+                picLabel.revalidate();
+            }));
+        }
+        return picLabel;
+    }
+
     /**
      * @return A custom JLabel that is constructed with
      * a gif instead of text.
      */
     public static JLabel getLogo() {
-        JLabel picLabel = new JLabel(imagesList[6]);
+        JLabel picLabel = getImageLabel(6);
         picLabel.setBackground(discordGrayer);
         picLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         return picLabel;
@@ -306,7 +338,7 @@ public final class PanelComponents {
      * a gif instead of text.
      */
     public static JLabel getSkeletonLogo() {
-        JLabel picLabel = new JLabel(imagesList[9]);
+        JLabel picLabel = getLazyImageLabel(9);
         picLabel.setBackground(discordGrayer);
         picLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         return picLabel;
@@ -317,7 +349,7 @@ public final class PanelComponents {
      * a png instead of text.
      */
     public static JLabel getCursor() {
-        JLabel cursor = new JLabel(imagesList[12]);
+        JLabel cursor = new JLabel(getIcon(12));
         cursor.setBackground(discordGrayer);
         return cursor;
     }
@@ -354,25 +386,13 @@ public final class PanelComponents {
     }
 
     /**
-     * Initializes all images retrieved from the resources project dir and dumps them into an array for later usage.
-     * @throws NullPointerException If retrieved image is null.
+     * Starts decoding the images retrieved from the resources project dir in the background.
+     * The images of the start screen are decoded first, then the images of the game screen.
+     * The help chart and the skeleton are only decoded when their screens open.
      */
     public static void initializeImages() {
-        imagesList = new ImageIcon[16];
-        for (int index = 0; index < 6; ++index) {
-            // Retrieve a resource stream using a base class as a reference point.
-            imagesList[index] = new ImageIcon(RunProject.class.getResource("/resources/die" + (index + 1) + ".png"));
-        }
-        imagesList[6] = new ImageIcon(RunProject.class.getResource("/resources/logo.png"));
-        imagesList[7] = new ImageIcon(RunProject.class.getResource("/resources/speaker32.png"));
-        imagesList[8] = new ImageIcon(RunProject.class.getResource("/resources/speaker32m.png"));
-        imagesList[9] = new ImageIcon(RunProject.class.getResource("/resources/skelly.png"));
-        imagesList[10] = new ImageIcon(RunProject.class.getResource("/resources/dieq.png"));
-        imagesList[11] = new ImageIcon(RunProject.class.getResource("/resources/roll.png"));
-        imagesList[12] = new ImageIcon(RunProject.class.getResource("/resources/cursor.png"));
-        imagesList[13] = new ImageIcon(RunProject.class.getResource("/resources/back.png"));
-        imagesList[14] = new ImageIcon(RunProject.class.getResource("/resources/helpChart.png"));
-        imagesList[15] = new ImageIcon(RunProject.class.getResource("/resources/goldenDie.png"));
+        ImageCache.prefetch(6, 7, 8, 15); // Logo, speakers and window icon
+        ImageCache.prefetch(0, 1, 2, 3, 4, 5, 10, 11, 12, 13); // Dice, roll and back buttons, cursor
     }
 
     /**
@@ -426,9 +446,11 @@ public final class PanelComponents {
      * Retrieves a listener according to what a specific button should do when clicked.
      * Used for GUI switch listeners.
      * @param type Type of button.
+     * @param session The game that the button belongs to,
+     * needed for ROLL, FAST_FORWARD, EARLIER, LATER and UNDO buttons.
      * @return An ActionListener according to the button type.
      */
-    static ActionListener getListener(ButtonType type) {
+    static ActionListener getListener(ButtonType type, GameSession session) {
         // Variable "e" indicates a new lambda action listener
         // FORMAT:
         //        Remove elements from MainWindow WindowPane
@@ -438,37 +460,48 @@ public final class PanelComponents {
 
         return switch (type) {
             case HELP -> e -> {
+                MainWindow.leaveGame(); // Abandon the game that was shown, if any
                 MainWindow.getWindowPane().removeAll(); // Remove elements
                 MainWindow.getWindowPane().setCursor(Cursor.getDefaultCursor()); // Update cursor
                 HelpPanel.setComponents(MainWindow.getWindowPane()); // Switch window context
                 MainWindow.updateJFrame(); // Refresh frame
             };
             case CREDITS -> e -> {
+                MainWindow.leaveGame(); // Abandon the game that was shown, if any
                 MainWindow.getWindowPane().removeAll(); // Remove elements
                 MainWindow.getWindowPane().setCursor(Cursor.getDefaultCursor()); // Update cursor
                 CreditsPanel.setComponents(MainWindow.getWindowPane()); // Switch window context
                 MainWindow.updateJFrame(); // Refresh frame
             };
             case ROLL -> e -> {
-                // Initiate a new roll request
-                new RollRequest(SnakeEyes.getPlayerOnTurn());
+                // Go back to the latest version of the game, and initiate a new roll request
+                session.showLatest();
+                new RollRequest(session);
             };
             case PLAY -> e -> {
                 // Empty Listener
             };
             case BACK -> e -> {
+                MainWindow.leaveGame(); // Abandon the game that was shown, if any
                 MainWindow.getWindowPane().removeAll(); // Remove elements
                 MainWindow.getWindowPane().setCursor(Cursor.getDefaultCursor()); // Update cursor
                 StartPanel.setComponents(MainWindow.getWindowPane()); // Switch window context
                 MainWindow.updateJFrame(); // Refresh frame
             };
             case ROLL_BACK -> e -> {
+                MainWindow.leaveGame(); // Abandon the game and its scheduled tasks
                 MainWindow.getWindowPane().removeAll(); // Remove elements
                 MainWindow.getWindowPane().setCursor(Cursor.getDefaultCursor()); // Update cursor
                 StartPanel.setComponents(MainWindow.getWindowPane()); // Switch window context
-                SnakeEyes.getPlayers().forEach(player -> player.resetStatus(true)); // Reset the players' scores
                 MainWindow.updateJFrame(); // Refresh frame
             };
+            case FAST_FORWARD -> e -> {
+                // Play the rest of the game at full speed
+                session.fastForward();
+            };
+            case EARLIER -> e -> session.stepBack();
+            case LATER -> e -> session.stepForward();
+            case UNDO -> e -> session.undo();
         };
     }
 }
\ No newline at end of file
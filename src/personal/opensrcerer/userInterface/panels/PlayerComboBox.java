@@ -6,6 +6,7 @@
 
 package personal.opensrcerer.userInterface.panels;
 
+import personal.opensrcerer.engine.PlayerState;
 import personal.opensrcerer.util.Player;
 
 import javax.swing.*;
@@ -14,14 +15,25 @@ import java.util.List;
 
 /**
  * An extension to JComboBox that contains a List of current JPlayers.
- * @param <E> The type of element that this ComboBox will hold.
+ * Only the first few seats are shown on the player list, larger tables fill the rest of their seats with bots.
+ * @param <E> The type of element that this ComboBox will hold, which must be the number of seats as an Integer.
  */
 public class PlayerComboBox<E> extends JComboBox<E> {
+    /**
+     * The number of seats that fit on the player list.
+     */
+    public static final int SHOWN_PLAYERS = 8;
+
     /**
      * An ArrayList that contains the currently selected players.
      */
     private final List<Player> players = new ArrayList<>();
 
+    /**
+     * The number of seats that are currently selected.
+     */
+    private int seats = 1;
+
     /**
      * Create a new PlayerComboBox with the given parameters.
      * @param selections The available choices in the ComboBox.
@@ -41,12 +53,15 @@ public class PlayerComboBox<E> extends JComboBox<E> {
             playerList.removeAll(); // Clear the JPanel
             players.clear(); // Clear the list of Players
 
-            int selection = getSelectedIndex() + 1;
-            for (int index = 0; index < selection; ++index) {
+            seats = (Integer) getSelectedItem();
+            for (int index = 0; index < Math.min(seats, SHOWN_PLAYERS); ++index) {
                 Player newPlayer = new Player(index + 1);
                 players.add(newPlayer);
                 playerList.add(newPlayer);
             }
+            playerList.setBorder(PanelComponents.getBorder((seats > SHOWN_PLAYERS)
+                    ? "Player List // Seats " + (SHOWN_PLAYERS + 1) + " - " + seats + " are bots"
+                    : "Player List"));
 
             playerList.revalidate();
             playerList.repaint();
@@ -54,9 +69,22 @@ public class PlayerComboBox<E> extends JComboBox<E> {
     }
 
     /**
-     * @return An array of the JPlayers that will participate.
+     * @return An array of the JPlayers that are shown on the player list.
      */
     public Player[] getPlayers() {
         return players.toArray(new Player[0]);
     }
+
+    /**
+     * @return Fresh PlayerStates for a new game, ordered by seat. Seats that are not on the player list are bots.
+     */
+    public PlayerState[] createStates() {
+        PlayerState[] states = new PlayerState[seats];
+        for (int seat = 0; seat < states.length; ++seat) {
+            states[seat] = (seat < players.size())
+                    ? players.get(seat).createState(seat)
+                    : new PlayerState(seat, "Bot " + (seat + 1), true);
+        }
+        return states;
+    }
 }
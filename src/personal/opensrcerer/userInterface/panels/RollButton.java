@@ -7,6 +7,7 @@
 package personal.opensrcerer.userInterface.panels;
 
 import personal.opensrcerer.util.ButtonType;
+import personal.opensrcerer.util.GameSession;
 
 import javax.swing.*;
 import java.awt.*;
@@ -24,16 +25,23 @@ public class RollButton extends JPanel {
      */
     private final JButton rollButton;
 
+    /**
+     * The game that this button belongs to.
+     */
+    private final GameSession session;
+
     /**
      * Make a custom button inside a JPanel that has a border.
+     * @param session The game that this button belongs to.
      */
-    public RollButton() {
+    public RollButton(GameSession session) {
         super(new GridLayout(1, 1));
-        rollButton = new JButton(imagesList[11]);
+        this.session = session;
+        rollButton = new JButton(getIcon(11));
         rollButton.setHorizontalAlignment(SwingConstants.CENTER);
         setButtonPalette("", rollButton);
         setMouseListener(rollButton);
-        rollButton.addActionListener(getListener(ButtonType.ROLL));
+        rollButton.addActionListener(getListener(ButtonType.ROLL, session));
         rollButton.setFocusPainted(false);
         add(rollButton);
         setBorder(BorderFactory.createLineBorder(discordLessGray, 1));
@@ -65,8 +73,18 @@ public class RollButton extends JPanel {
         // Remove all ActionListeners on the button (there's only one)
         Arrays.stream(rollButton.getActionListeners()).forEach(rollButton::removeActionListener);
         // Replace the button's image with the "back" image
-        rollButton.setIcon(PanelComponents.imagesList[13]);
+        rollButton.setIcon(PanelComponents.getIcon(13));
         // Add a new ActionListener to the button
-        rollButton.addActionListener(getListener(ButtonType.ROLL_BACK));
+        rollButton.addActionListener(getListener(ButtonType.ROLL_BACK, session));
+    }
+
+    /**
+     * Changes the image and listener of this button back to rolling the dice.
+     * This method is called when a game that is over is taken back to an earlier version.
+     */
+    public void convertToRollButton() {
+        Arrays.stream(rollButton.getActionListeners()).forEach(rollButton::removeActionListener);
+        rollButton.setIcon(PanelComponents.getIcon(11));
+        rollButton.addActionListener(getListener(ButtonType.ROLL, session));
     }
 }
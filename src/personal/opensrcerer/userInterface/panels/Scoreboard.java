@@ -6,8 +6,11 @@
 
 package personal.opensrcerer.userInterface.panels;
 
-import personal.opensrcerer.util.Player;
-import personal.opensrcerer.util.SnakeEyes;
+import personal.opensrcerer.engine.GameSnapshot;
+import personal.opensrcerer.engine.Leaderboard;
+import personal.opensrcerer.userInterface.RepaintScheduler;
+import personal.opensrcerer.userInterface.Updatable;
+import personal.opensrcerer.util.GameSession;
 
 import javax.swing.*;
 
@@ -17,18 +20,28 @@ import static personal.opensrcerer.userInterface.panels.PanelComponents.*;
 
 /**
  * Displays the score of every player in an ordered way, also showing whose turn it is using a cursor.
+ * The players are shown in a scrolling JList, so only the rows that are visible are ever drawn, and a refresh
+ * only repaints the rows whose score, rank or cursor has changed. This keeps tables with thousands of seats cheap to show.
+ * Every row shows the player's rank, from standings that are kept by the GUI thread as the shown scores change.
+ * The scores are read from the shown version of the game, which is the latest one unless an earlier one is viewed,
+ * and shown by the RepaintScheduler, so the scoreboard can be refreshed from any thread.
  */
-public class Scoreboard extends JPanel {
+public class Scoreboard extends JPanel implements Updatable {
 
     /**
-     * Inner class used to better manage instances of players in the scoreboard.
+     * The height of every row in the list, in pixels.
      */
-    public static final class ScoreboardPlayer extends JPanel {
-        /**
-         * The Player object that contains data for this ScoreboardPlayer object.
-         */
-        private final Player player;
+    private static final int ROW_HEIGHT = 37;
+
+    /**
+     * The size of the scrolling area that shows the rows, in pixels.
+     */
+    private static final Dimension LIST_SIZE = new Dimension(350, 329);
 
+    /**
+     * Draws the row of a player. A single instance is used as a stamp for every row that is visible.
+     */
+    private final class ScoreboardRow extends JPanel implements ListCellRenderer<String> {
         /**
          * The Label that shows the player's information.
          */
@@ -40,69 +53,175 @@ public class Scoreboard extends JPanel {
         private final JLabel cursor;
 
         /**
-         * Create a new ScoreboardPlayer based on the given player.
-         * @param player Given player to create from.
+         * Create a new row to draw players with.
          */
-        private ScoreboardPlayer(Player player) {
+        private ScoreboardRow() {
             super();
             setBackground(discordGrayer);
-            this.player = player;
-            this.playerInfo = getLabel(player.getPlayerName() + " - Score: " + player.getScore(), titleFont);
+            this.playerInfo = getLabel("", titleFont);
             this.cursor = PanelComponents.getCursor();
             add(cursor);
             add(playerInfo);
-            refresh();
         }
 
         /**
-         * Refresh the information for the player and make the cursor visible if it's the player's turn.
+         * Shows the score and rank of the player as they were at the last update,
+         * and the cursor if it was the player's turn.
          */
-        public void refresh() {
-            // Make the cursor visible the player whose turn it is
-            cursor.setVisible(player.equals(SnakeEyes.getPlayerOnTurn()));
-            // Update the player's information
-            playerInfo.setText(player.getPlayerName() + " - Score: " + player.getScore());
-            // Refresh the information
-            revalidate();
-            repaint();
+        @Override
+        public Component getListCellRendererComponent(JList<? extends String> list, String name, int seat,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            cursor.setVisible(seat == shownTurn);
+            shownRanks[seat] = standings.rank(seat);
+            playerInfo.setText(name + " - Score: " + standings.getScore(seat) + " (#" + shownRanks[seat] + ")");
+            return this;
         }
     }
 
     /**
-     * Contains all the ScoreboardPlayers to update.
+     * The game that this scoreboard belongs to.
+     */
+    private final GameSession session;
+
+    /**
+     * The list that shows a row for every player, by their name.
      */
-    private final ScoreboardPlayer[] scoreboardPlayers;
+    private final JList<String> list;
+
+    /**
+     * The standings of the shown scores. Only used by the GUI thread.
+     */
+    private final Leaderboard standings;
+
+    /**
+     * The rank that every row was last drawn with, ordered by seat.
+     */
+    private final int[] shownRanks;
+
+    /**
+     * The snapshot of the game that is shown.
+     */
+    private GameSnapshot shown;
+
+    /**
+     * The seat of the player that the cursor is shown next to.
+     */
+    private int shownTurn;
+
+    /**
+     * The round that is shown on the border.
+     */
+    private int shownRound;
 
     /**
      * Returns a modular JPanel scoreboard.
+     * @param session The game that this scoreboard belongs to.
      */
-    public Scoreboard() {
+    public Scoreboard(GameSession session) {
         super();
         setLayout(new BoxLayout(this, BoxLayout.PAGE_AXIS));
         setBackground(discordGrayer);
-
-        scoreboardPlayers = SnakeEyes.getPlayers()
-                .map(ScoreboardPlayer::new) // Change the stream type by making new ScoreboardPlayers
-                .toArray(ScoreboardPlayer[]::new); // Box the stream into an array
-
-        // Add every ScoreboardPlayer
-        for (ScoreboardPlayer player : scoreboardPlayers) {
-            add(player);
+        this.session = session;
+        this.shown = session.getSnapshot();
+        this.standings = new Leaderboard(shown.size());
+        this.shownRanks = new int[shown.size()];
+        String[] names = new String[shown.size()];
+        for (int seat = 0; seat < names.length; ++seat) {
+            names[seat] = shown.getPlayer(seat).name();
+            standings.update(seat, shown.getPlayer(seat).score());
         }
-        // Add RigidArea of a predefined size
-        add(Box.createRigidArea(new Dimension(0, 329 - (SnakeEyes.size() * 37))));
-        setBorder(PanelComponents.getBorder("Scoreboard // Round " + SnakeEyes.getCurrentRound()));
+        this.shownTurn = shown.getPlayerOnTurn().seat();
+
+        list = new JList<>(names);
+        list.setCellRenderer(new ScoreboardRow());
+        // Fixed sizes let the list lay itself out without drawing every row first
+        list.setFixedCellHeight(ROW_HEIGHT);
+        list.setFixedCellWidth(LIST_SIZE.width / 2);
+        list.setBackground(discordGrayer);
+        list.setFocusable(false);
+
+        JScrollPane scrollPane = new JScrollPane(list,
+                ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED, ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        scrollPane.getViewport().setBackground(discordGrayer);
+        scrollPane.setPreferredSize(LIST_SIZE);
+        add(scrollPane);
+
+        shownRound = shown.getCurrentRound();
+        setBorder(PanelComponents.getBorder("Scoreboard // Round " + shownRound));
     }
 
     /**
-     * Update changes on this scoreboard and set the cursor position on a specific player.
+     * Marks this scoreboard to show the latest scores and cursor position in the next frame.
      */
     public void refresh() {
-        for (ScoreboardPlayer player : scoreboardPlayers) {
-            player.refresh(); // Refresh every player's label and cursor
+        RepaintScheduler.markDirty(this);
+    }
+
+    @Override
+    public void applyUpdate() {
+        GameSnapshot game = session.getShownSnapshot();
+        if (game == shown) {
+            return; // Nothing has been published since the last frame
+        }
+        shown = game;
+
+        // Move the cursor, and keep the player on turn in view
+        int turn = game.getPlayerOnTurn().seat();
+        if (turn != shownTurn) {
+            repaintRows(shownTurn, shownTurn);
+            shownTurn = turn;
+            repaintRows(turn, turn);
+            list.ensureIndexIsVisible(turn);
         }
 
-        // Update border
-        setBorder(PanelComponents.getBorder("Scoreboard // Round " + SnakeEyes.getCurrentRound()));
+        // Repaint only the rows whose score has changed, joining neighbouring rows into one area
+        boolean changed = false;
+        int changedFrom = -1;
+        for (int seat = 0; seat < game.size(); ++seat) {
+            int score = game.getPlayer(seat).score();
+            if (score != standings.getScore(seat)) {
+                standings.update(seat, score);
+                changed = true;
+                if (changedFrom < 0) {
+                    changedFrom = seat;
+                }
+            } else if (changedFrom >= 0) {
+                repaintRows(changedFrom, seat - 1);
+                changedFrom = -1;
+            }
+        }
+        if (changedFrom >= 0) {
+            repaintRows(changedFrom, game.size() - 1);
+        }
+
+        // A changed score can move the rank of other players, but only the rows in view need to be drawn again
+        if (changed) {
+            int last = list.getLastVisibleIndex();
+            for (int seat = Math.max(list.getFirstVisibleIndex(), 0); seat <= last; ++seat) {
+                if (standings.rank(seat) != shownRanks[seat]) {
+                    repaintRows(seat, seat);
+                }
+            }
+        }
+
+        // Update border only when the round has changed
+        if (shownRound != game.getCurrentRound()) {
+            shownRound = game.getCurrentRound();
+            setBorder(PanelComponents.getBorder("Scoreboard // Round " + shownRound));
+            repaint();
+        }
+    }
+
+    /**
+     * Repaints a range of rows. Rows that are scrolled out of view are not drawn.
+     * @param from The seat of the first row.
+     * @param to The seat of the last row.
+     */
+    private void repaintRows(int from, int to) {
+        Rectangle bounds = list.getCellBounds(from, to);
+        if (bounds != null) {
+            list.repaint(bounds);
+        }
     }
 }
@@ -21,20 +21,29 @@ public abstract class StartPanel {
     /**
      * Singleton startPanel instance.
      */
-    private static final JPanel startPanel;
+    private static JPanel startPanel;
 
     /**
      * Bottom panel instance.
      */
-    private static final BottomPanel bottomPanel;
+    private static BottomPanel bottomPanel;
 
-    static {
+    /**
+     * Builds the start components, so that they are ready for the first visit.
+     * Does nothing if they have already been built. Must be called from the GUI thread.
+     */
+    public static void prewarm() {
+        if (startPanel != null) {
+            return;
+        }
         JPanel playerList = getJPanel(BoxLayout.PAGE_AXIS);
         playerList.setPreferredSize(new Dimension(500, 320));
         playerList.setBorder(getBorder("Player List"));
 
-        PlayerComboBox<Integer> playersBox = new PlayerComboBox<>(new Integer[] {1, 2, 3, 4, 5, 6, 7, 8}, playerList);
-        JComboBox<Integer> roundsBox = getComboBox(new Integer[] {1, 2, 3, 4, 5, 6, 7, 8, 9});
+        PlayerComboBox<Integer> playersBox = new PlayerComboBox<>(new Integer[] {1, 2, 3, 4, 5, 6, 7, 8,
+                16, 32, 64, 128, 256, 512, 1024, 2048, 4096, 8192}, playerList);
+        JComboBox<Integer> roundsBox = getComboBox(new Integer[] {1, 2, 3, 4, 5, 6, 7, 8, 9,
+                10, 15, 20, 25, 50, 100});
 
         final JPanel selections = getJPanel(BoxLayout.PAGE_AXIS),
                 titlePanel = getJPanel(BoxLayout.PAGE_AXIS),
@@ -82,6 +91,7 @@ public abstract class StartPanel {
      * @param pane ContentPane of MainWindow's JFrame.
      */
     public static void setComponents(final Container pane) {
+        prewarm(); // Build the components on the first visit
         pane.add(startPanel);
         bottomPanel.refresh();
     }
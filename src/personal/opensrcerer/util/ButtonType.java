@@ -42,5 +42,25 @@ public enum ButtonType {
     /**
      * Represents the "Back" button in the UI in help menus.
      */
-    ROLL_BACK
+    ROLL_BACK,
+
+    /**
+     * Represents the "Fast-forward" button in the UI, that plays a bot table game to the end.
+     */
+    FAST_FORWARD,
+
+    /**
+     * Represents the "Earlier" button in the UI, that shows the version of the game before the shown one.
+     */
+    EARLIER,
+
+    /**
+     * Represents the "Later" button in the UI, that shows the version of the game after the shown one.
+     */
+    LATER,
+
+    /**
+     * Represents the "Undo" button in the UI, that takes the game back to the shown version, or the last roll back.
+     */
+    UNDO
 }
\ No newline at end of file
@@ -0,0 +1,652 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.util;
+
+import personal.opensrcerer.actions.RollRequest;
+import personal.opensrcerer.engine.Dice;
+import personal.opensrcerer.engine.GameEngine;
+import personal.opensrcerer.engine.GameSnapshot;
+import personal.opensrcerer.engine.PlayerSnapshot;
+import personal.opensrcerer.engine.PlayerState;
+import personal.opensrcerer.engine.RollOutcome;
+import personal.opensrcerer.metrics.Counter;
+import personal.opensrcerer.metrics.Histogram;
+import personal.opensrcerer.metrics.MetricsRegistry;
+import personal.opensrcerer.userInterface.RollAnimation;
+import personal.opensrcerer.userInterface.panels.Banner;
+import personal.opensrcerer.userInterface.panels.Diceboard;
+import personal.opensrcerer.userInterface.panels.RollButton;
+import personal.opensrcerer.userInterface.panels.Scoreboard;
+
+import javax.swing.*;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Represents one full SnakeEyes game that is shown in the GUI.
+ * Every session owns its players, turn order, round counter, GUI elements and scheduled tasks,
+ * so several sessions can run side by side.
+ * The rules themselves are run by a GameEngine, this class connects it to the GUI.
+ * <br>
+ * Only this game's Mailbox changes the game, one request at a time. After every change it publishes a
+ * GameSnapshot, which the GUI and every other thread read without locking.
+ * Every snapshot is a version of the game, so the GUI can step back and forth through its history while it is
+ * played, and take the game back to an earlier version.
+ */
+public class GameSession {
+
+    /**
+     * The most players that are named on the banner when several tie for first.
+     */
+    private static final int NAMED_PLAYERS = 3;
+
+    /**
+     * Turns that have passed to the next player, in every game.
+     */
+    private static final Counter turns =
+            MetricsRegistry.counter("game_turns_total", "Turns that have passed to the next player.");
+
+    /**
+     * Rounds that have started after the first one, in every game.
+     */
+    private static final Counter rounds =
+            MetricsRegistry.counter("game_rounds_total", "Rounds that have started after the first one.");
+
+    /**
+     * Games that have been played to the end.
+     */
+    private static final Counter finishedGames =
+            MetricsRegistry.counter("game_finished_total", "Games that have been played to the end.");
+
+    /**
+     * Games that have been taken back to an earlier version.
+     */
+    private static final Counter undos =
+            MetricsRegistry.counter("game_undos_total", "Times that a game was taken back to an earlier version.");
+
+    /**
+     * How long players hold the turn.
+     */
+    private static final Histogram turnTime =
+            MetricsRegistry.histogram("game_turn_seconds",
+                    "Time from a player getting the turn until their roll is applied.");
+
+    /**
+     * The Roll Button for this game.
+     */
+    private final RollButton rollButton;
+
+    /**
+     * The banner that contains announcement text for this game.
+     */
+    private final Banner banner;
+
+    /**
+     * The Diceboard for this game.
+     */
+    private final Diceboard diceboard;
+
+    /**
+     * The Scoreboard for this game.
+     */
+    private final Scoreboard scoreboard;
+
+    /**
+     * The headless engine that applies the rules for this game. Only used by this game's Mailbox.
+     */
+    private final GameEngine engine;
+
+    /**
+     * The latest snapshot of this game, as published by its Mailbox.
+     */
+    private final AtomicReference<GameSnapshot> snapshot;
+
+    /**
+     * The Mailbox that runs this game's requests one at a time.
+     */
+    private final Mailbox mailbox = RequestDispatcher.newMailbox();
+
+    /**
+     * Tasks that have been scheduled for this game and might not have run yet.
+     */
+    private final Set<ScheduledFuture<?>> tasks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The earlier version of this game that the GUI shows, or null if it shows the latest one.
+     */
+    private volatile GameSnapshot viewed;
+
+    /**
+     * Used to show if every player in this game is a bot.
+     */
+    private final boolean botTable;
+
+    /**
+     * Used to show if bot rolls should skip the animation and be played a round at a time.
+     */
+    private volatile boolean turbo;
+
+    /**
+     * The animation of the dice that are currently rolling, or null if none are.
+     */
+    private volatile RollAnimation animation;
+
+    /**
+     * Used to show if this game has been abandoned.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The System.nanoTime that the player on turn got the turn at.
+     */
+    private long turnStart = System.nanoTime();
+
+    /**
+     * Creates a new game with a random seed.
+     * @param players Players that will play in the new game, ordered by their seat.
+     * @param totalRounds The total number of rounds in the new game.
+     */
+    public GameSession(PlayerState[] players, int totalRounds) {
+        this(players, totalRounds, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a new game.
+     * @param players Players that will play in the new game, ordered by their seat.
+     * @param totalRounds The total number of rounds in the new game.
+     * @param seed The seed that the game's dice are rolled from.
+     */
+    public GameSession(PlayerState[] players, int totalRounds, long seed) {
+        // Values first
+        this.engine = new GameEngine(players, totalRounds, seed);
+        // The first snapshot also starts the standings, so the winner is known without a scan
+        this.snapshot = new AtomicReference<>(engine.snapshot());
+        this.botTable = Arrays.stream(players).allMatch(PlayerState::isCpu);
+        // Instantiate GUI Elements last
+        this.rollButton = new RollButton(this);
+        this.banner = new Banner(this);
+        this.diceboard = new Diceboard(this);
+        this.scoreboard = new Scoreboard(this);
+    }
+
+    /**
+     * Starts the game, rolling automatically if the first player is a bot.
+     */
+    public void start() {
+        if (getPlayerOnTurn().cpu()) {
+            new RollRequest(this);
+        }
+    }
+
+    /**
+     * Rolls this game's dice for the player on turn and performs the appropriate action.
+     * The dice are only rolled here, so that rolls which are cancelled never use up a roll of the game's seed.
+     * Must only be called from this game's Mailbox.
+     * @return What the roll did to the player.
+     */
+    public RollOutcome roll() {
+        return roll(engine.nextDice());
+    }
+
+    /**
+     * Rolls the dice for the player on turn and performs the appropriate action.
+     * Must only be called from this game's Mailbox, which applies the rules for one roll at a time.
+     * @param roll The roll index of the dice that were just rolled.
+     * @return What the roll did to the player.
+     */
+    public RollOutcome roll(int roll) {
+        animation = null; // The dice have stopped rolling
+        PlayerState player = engine.getPlayerOnTurn();
+        // Show dies that were just rolled to the player(s)
+        diceboard.refresh(roll);
+        // Apply the rules to this player's state
+        RollOutcome outcome = engine.applyRoll(roll);
+        // Calculate the sum of the dice
+        int diceSum = Dice.sum(roll);
+        String rolled = player.getName() + ", you rolled " + getArticle(diceSum) + " " + diceSum + "!";
+
+        String message = switch (outcome) {
+            case NATURAL -> rolled + " (+10 Points)";
+            case CRAPS -> rolled + " (-5 Points)";
+            case POINT_SET -> player.getName() + ", your point dice are [" + Dice.first(roll) + ", " +
+                    Dice.second(roll) + "].";
+            case POINT_MADE -> rolled + " (" + outcome.scoreFor(player.getConsecutiveRolls()) + " Points)";
+            case SEVEN_OUT -> rolled + " (-3 Points)";
+            case NO_CHANGE -> rolled;
+        };
+        banner.update(message, true);
+
+        nextTurn();
+        scoreboard.refresh();
+        diceboard.refresh(snapshot.get().getPlayer(player.getSeat()), roll);
+        return outcome;
+    }
+
+    /**
+     * Plays bot rolls in the engine at full speed, without the animation and without updating the GUI for every roll.
+     * Shows a summary on the GUI when done. Should only be called from this game's Mailbox.
+     * @param toEnd True to play until the game ends, false to play until the round changes.
+     */
+    public void playFast(boolean toEnd) {
+        // Stop dice that are still rolling, their roll is played here instead
+        RollAnimation rollAnimation = animation;
+        if (rollAnimation != null) {
+            rollAnimation.cancel();
+            animation = null;
+        }
+
+        int round = engine.getCurrentRound();
+        long played = 0;
+        while (!engine.isFinished() && (toEnd || engine.getCurrentRound() == round)) {
+            engine.roll();
+            ++played;
+        }
+        turns.add(played);
+        rounds.add(engine.getCurrentRound() - round);
+        turnStart = System.nanoTime();
+        snapshot.set(engine.snapshot());
+
+        if (engine.isFinished()) {
+            if (played > 0) {
+                finishedGames.increment();
+            }
+            SwingUtilities.invokeLater(rollButton::convertToBackButton);
+        }
+        publishSummary();
+    }
+
+    /**
+     * Plays the rest of a bot table game at full speed on this game's Mailbox, then shows the final result.
+     * Does nothing if any player is not a bot.
+     */
+    public void fastForward() {
+        if (botTable && !closed) {
+            mailbox.offer(() -> playFast(true));
+        }
+    }
+
+    /**
+     * Shows the current state of the game on the GUI: the winner if the game has finished, otherwise
+     * the roll message, and allows the button to be clicked if a human is on turn. Can be called from any thread.
+     */
+    public void publishSummary() {
+        GameSnapshot game = snapshot.get();
+        if (game.isFinished()) {
+            // The leader of the standings is the winner, unless others share their score
+            if (game.getTiedForFirst() == 1) {
+                // Show winner banner
+                banner.update("The game has finished! Winner: " + game.getLeader().name(), false);
+            } else {
+                banner.update("The game has finished! Tied for first: " + getNames(game), false);
+            }
+        } else {
+            // Show roll message if next player is not a bot.
+            banner.update();
+        }
+
+        scoreboard.refresh();
+        diceboard.refreshUnrolled();
+
+        if (!game.getPlayerOnTurn().cpu() || game.isFinished()) { // Allow button clicking for humans only
+            SwingUtilities.invokeLater(rollButton::allow);
+        }
+    }
+
+    /**
+     * Plays the roll animation on this game's Diceboard. Returns right away.
+     * @param onFinish Runs on the GUI thread after the animation, unless the game is closed first.
+     */
+    public void animateRoll(Runnable onFinish) {
+        RollAnimation rollAnimation = new RollAnimation(diceboard, onFinish);
+        animation = rollAnimation;
+        if (closed) {
+            return;
+        }
+        rollAnimation.start();
+    }
+
+    /**
+     * @return Whether the dice are currently rolling.
+     */
+    public boolean isRolling() {
+        return animation != null;
+    }
+
+    /**
+     * Advances the turn to the next player.
+     * If it's the turn of the last player on the list, the round advances, or the game ends.
+     * The new state is published before the next bot roll is scheduled, so that it rolls for the right player.
+     */
+    private void nextTurn() {
+        PlayerState previousPlayer = engine.getPlayerOnTurn();
+        int round = engine.getCurrentRound();
+        turnTime.recordSince(turnStart);
+
+        engine.nextTurn(); // Go to the next player, round, or finish the game
+        turns.increment();
+        turnStart = System.nanoTime();
+        snapshot.set(engine.snapshot());
+
+        if (engine.isFinished()) {
+            finishedGames.increment();
+            SwingUtilities.invokeLater(rollButton::convertToBackButton);
+        } else {
+            if (engine.getCurrentRound() != round) {
+                rounds.increment();
+            }
+            // If previous player is not computer-player but the current one is, give the previous one time to read score
+            if (!previousPlayer.isCpu() && engine.getPlayerOnTurn().isCpu()) {
+                schedule(() -> new RollRequest(this), 5, TimeUnit.SECONDS);
+            } else if (engine.getPlayerOnTurn().isCpu()) {
+                // Otherwise just make a new roll request if only the current one is
+                schedule(() -> new RollRequest(this), 100, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Shows the version of the game before the one that is shown, if there is one.
+     * The game itself does not change, and keeps being played.
+     */
+    public void stepBack() {
+        GameSnapshot previous = getShownSnapshot().getPrevious();
+        if (previous != null) {
+            viewed = previous;
+            refreshView();
+        }
+    }
+
+    /**
+     * Shows the version of the game after the one that is shown, which is the latest one again at the end.
+     */
+    public void stepForward() {
+        GameSnapshot shown = viewed;
+        if (shown == null) {
+            return;
+        }
+        GameSnapshot latest = snapshot.get();
+        int next = shown.getVersion() + 1;
+        viewed = (next >= latest.getVersion()) ? null : latest.findVersion(next);
+        refreshView();
+    }
+
+    /**
+     * Shows the latest version of the game again.
+     */
+    public void showLatest() {
+        if (viewed != null) {
+            viewed = null;
+            refreshView();
+        }
+    }
+
+    /**
+     * Takes the game back to the version that is shown, or to the one before the latest if the latest is shown,
+     * and plays on from there. The versions after it are dropped. Runs on this game's Mailbox.
+     */
+    public void undo() {
+        if (closed) {
+            return;
+        }
+        GameSnapshot shown = viewed;
+        if (shown != null) {
+            mailbox.offer(() -> restore(shown));
+        } else {
+            // The latest version is only known on the Mailbox, after the rolls that are queued before this undo
+            mailbox.offer(() -> {
+                GameSnapshot previous = snapshot.get().getPrevious();
+                if (previous != null) {
+                    restore(previous);
+                }
+            });
+        }
+    }
+
+    /**
+     * Puts the game back into an earlier version and starts playing from there.
+     * Should only be called from this game's Mailbox.
+     * @param version The version to go back to.
+     */
+    private void restore(GameSnapshot version) {
+        // Stop the dice that are rolling and the rolls that are waiting, as they belong to the dropped versions
+        RollAnimation rollAnimation = animation;
+        if (rollAnimation != null) {
+            rollAnimation.cancel();
+            animation = null;
+        }
+        tasks.forEach(task -> task.cancel(false));
+        tasks.clear();
+
+        boolean wasFinished = engine.isFinished();
+        engine.restore(version);
+        snapshot.set(version);
+        viewed = null;
+        turnStart = System.nanoTime();
+        undos.increment();
+
+        if (wasFinished) {
+            SwingUtilities.invokeLater(rollButton::convertToRollButton);
+        }
+        refreshView();
+        publishSummary();
+        if (getPlayerOnTurn().cpu()) {
+            SwingUtilities.invokeLater(rollButton::restrict);
+            schedule(() -> new RollRequest(this), 100, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Marks every board of this game to show the version that is shown in the next frame.
+     */
+    private void refreshView() {
+        banner.refreshView();
+        diceboard.refreshView();
+        scoreboard.refresh();
+    }
+
+    /**
+     * Schedule a Runnable for this game on the RequestDispatcher.
+     * The Runnable does not run if the game is closed before the delay ends.
+     * @param r Runnable to schedule.
+     * @param delay Value of the delay.
+     * @param unit The TimeUnit of the delay.
+     */
+    public void schedule(Runnable r, long delay, TimeUnit unit) {
+        if (closed) {
+            return;
+        }
+        tasks.removeIf(Future::isDone); // Forget the tasks that have already run
+        tasks.add(RequestDispatcher.schedule(() -> {
+            if (!closed) {
+                r.run();
+            }
+        }, delay, unit));
+    }
+
+    /**
+     * Abandons this game, cancelling the roll animation and every task that has been scheduled for it.
+     */
+    public void close() {
+        closed = true;
+        RollAnimation rollAnimation = animation;
+        if (rollAnimation != null) {
+            rollAnimation.cancel();
+        }
+        tasks.forEach(task -> task.cancel(false));
+        tasks.clear();
+    }
+
+    /**
+     * @return Whether every player in this game is a bot.
+     */
+    public boolean isBotTable() {
+        return botTable;
+    }
+
+    /**
+     * Turns turbo mode on or off. In turbo mode bot tables skip the animation and show a summary every round.
+     * @param turbo Whether turbo mode should be on.
+     */
+    public void setTurbo(boolean turbo) {
+        this.turbo = turbo;
+    }
+
+    /**
+     * @return Whether this is a bot table that is in turbo mode.
+     */
+    public boolean isTurbo() {
+        return turbo && botTable;
+    }
+
+    /**
+     * @return The Mailbox that runs this game's requests.
+     */
+    public Mailbox getMailbox() {
+        return mailbox;
+    }
+
+    /**
+     * @return The seed that this game's dice are rolled from.
+     */
+    public long getSeed() {
+        return engine.getSeed();
+    }
+
+    /**
+     * @return Whether this game has been abandoned.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return The latest snapshot of this game. Can be read from any thread without locking.
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * @return The earlier version of this game that the GUI shows, or null if it shows the latest one.
+     */
+    public GameSnapshot getViewedVersion() {
+        return viewed;
+    }
+
+    /**
+     * @return The version of this game that the GUI shows, which is the latest one unless an earlier one is viewed.
+     */
+    public GameSnapshot getShownSnapshot() {
+        GameSnapshot shown = viewed;
+        return (shown != null) ? shown : snapshot.get();
+    }
+
+    /**
+     * @return The player whose turn it is, as of the latest snapshot.
+     */
+    public PlayerSnapshot getPlayerOnTurn() {
+        return snapshot.get().getPlayerOnTurn();
+    }
+
+    /**
+     * @return The Scoreboard for this game.
+     */
+    public Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+
+    /**
+     * @return The Diceboard for this game.
+     */
+    public Diceboard getDiceboard() {
+        return diceboard;
+    }
+
+    /**
+     * @return The Banner for this game.
+     */
+    public Banner getBanner() {
+        return banner;
+    }
+
+    /**
+     * @return The current round of the game.
+     */
+    public int getCurrentRound() {
+        return snapshot.get().getCurrentRound();
+    }
+
+    /**
+     * @return The total rounds of the game.
+     */
+    public int getTotalRounds() {
+        return snapshot.get().getTotalRounds();
+    }
+
+    /**
+     * @return This game's RollButton.
+     */
+    public RollButton getRollButton() {
+        return rollButton;
+    }
+
+    /**
+     * @return The number of players in this game.
+     */
+    public int size() {
+        return snapshot.get().size();
+    }
+
+    /**
+     * @return Whether this game has finished.
+     */
+    public boolean isFinished() {
+        return snapshot.get().isFinished();
+    }
+
+    /**
+     * @param game A snapshot of the game.
+     * @return The names of the first few players that are tied for first, by seat, separated by commas.
+     */
+    private static String getNames(GameSnapshot game) {
+        int count = game.getTiedForFirst();
+        int best = game.getLeader().score();
+        int named = 0;
+        StringBuilder names = new StringBuilder();
+        // Players with the same score are ranked by their seat, so the first ones found are those in first place
+        for (int seat = game.getLeader().seat(); seat < game.size() && named < NAMED_PLAYERS; ++seat) {
+            PlayerSnapshot player = game.getPlayer(seat);
+            if (player.score() == best) {
+                if (named++ > 0) {
+                    names.append(", ");
+                }
+                names.append(player.name());
+            }
+        }
+        if (count > named) {
+            names.append(" and ").append(count - named).append(" more");
+        }
+        return names.toString();
+    }
+
+    /**
+     * @param sum The sum of the dice for this roll.
+     * @return The appropriate article for the number.
+     */
+    private static String getArticle(int sum) {
+        return switch (sum) {
+            case 8, 11 -> "an";
+            default -> "a";
+        };
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Made for the Final Project in CS106, due April 1st 2021. <br>
+ * This work is licensed under the GNU General Public License v3.0 <br>
+ * GNU © 2021 Daniel Stefani / OpenSrcerer
+ */
+
+package personal.opensrcerer.util;
+
+import personal.opensrcerer.actions.Request;
+import personal.opensrcerer.flightRecorder.RequestEnqueueEvent;
+import personal.opensrcerer.flightRecorder.RequestRunEvent;
+import personal.opensrcerer.metrics.Counter;
+import personal.opensrcerer.metrics.Histogram;
+import personal.opensrcerer.metrics.MetricsRegistry;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded queue of requests for one game, that runs its requests one at a time and in order.
+ * The mailbox is only handed to a thread while it has requests, so many games can share a few threads.
+ * A request with the same coalesce key as a waiting one, such as a roll for the same player, is merged into it,
+ * and a request that arrives while the mailbox is full is rejected.
+ * <br>
+ * Nothing that arrives is dropped without being counted: every request is either enqueued, coalesced or rejected.
+ * The counts of every mailbox, how long requests wait and how long they run are also kept in the MetricsRegistry,
+ * and every offer and run is recorded as a Flight Recorder event.
+ */
+public class Mailbox {
+
+    /**
+     * The number of requests waiting in every mailbox.
+     */
+    private static final LongAdder queued = new LongAdder();
+
+    /**
+     * Requests that were merged into a queued one, in every mailbox.
+     */
+    private static final Counter coalescedOffers =
+            MetricsRegistry.counter("dispatcher_coalesced_total", "Requests that were merged into a queued request.");
+
+    /**
+     * Requests that were rejected, in every mailbox.
+     */
+    private static final Counter rejectedOffers =
+            MetricsRegistry.counter("dispatcher_rejected_total",
+                    "Requests that were dropped because a mailbox was full.");
+
+    /**
+     * Requests that threw while running, in every mailbox.
+     */
+    private static final Counter failedRequests =
+            MetricsRegistry.counter("dispatcher_failed_total", "Requests that threw an exception while running.");
+
+    /**
+     * How long requests wait in a mailbox before they start running.
+     */
+    private static final Histogram waitTime =
+            MetricsRegistry.histogram("dispatcher_wait_seconds",
+                    "Time that requests wait in a mailbox before running.");
+
+    /**
+     * How long requests take to run.
+     */
+    private static final Histogram runTime =
+            MetricsRegistry.histogram("dispatcher_run_seconds", "Time that requests take to run.");
+
+    static {
+        MetricsRegistry.gauge("dispatcher_queue_depth", "Requests waiting in every mailbox.", queued::sum);
+    }
+
+    /**
+     * The requests waiting to be run.
+     */
+    private final ArrayDeque<Request> requests;
+
+    /**
+     * The System.nanoTime that every waiting request was enqueued at, in the same order as the requests.
+     */
+    private final long[] enqueuedAt;
+
+    /**
+     * The place in enqueuedAt of the request that has waited the longest.
+     */
+    private int head;
+
+    /**
+     * The maximum number of waiting requests.
+     */
+    private final int capacity;
+
+    /**
+     * The executor that runs the requests.
+     */
+    private final Executor executor;
+
+    /**
+     * Number of requests that have been enqueued.
+     */
+    private final LongAdder enqueued = new LongAdder();
+
+    /**
+     * Number of requests that have been merged into a queued one.
+     */
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Number of requests that have been rejected.
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Used to show if a thread is currently running requests from this mailbox.
+     */
+    private boolean running;
+
+    /**
+     * Create a new mailbox.
+     * @param capacity The maximum number of waiting requests.
+     * @param executor The executor that runs the requests.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public Mailbox(int capacity, Executor executor) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Mailbox capacity must be positive!");
+        }
+        this.requests = new ArrayDeque<>(capacity);
+        this.enqueuedAt = new long[capacity];
+        this.capacity = capacity;
+        this.executor = executor;
+    }
+
+    /**
+     * Adds a request to this mailbox. A request with the same coalesce key as a queued one is merged into it,
+     * whether the mailbox is full or not. Otherwise the request is rejected if the mailbox is full.
+     * @param request Request to be added.
+     * @return True if the request was enqueued or coalesced, false if it was rejected.
+     */
+    public synchronized boolean offer(Request request) {
+        if (isQueued(request.getCoalesceKey())) {
+            coalesced.increment();
+            coalescedOffers.increment();
+            recordOffer(request, "coalesced");
+            return true;
+        }
+
+        if (requests.size() >= capacity) {
+            rejected.increment();
+            rejectedOffers.increment();
+            recordOffer(request, "rejected");
+            return false;
+        }
+
+        enqueuedAt[(head + requests.size()) % capacity] = System.nanoTime();
+        requests.add(request);
+        enqueued.increment();
+        queued.increment();
+        recordOffer(request, "enqueued");
+        if (!running) {
+            running = true;
+            executor.execute(this::drain);
+        }
+        return true;
+    }
+
+    /**
+     * Runs the waiting requests until there are none left.
+     */
+    private void drain() {
+        while (true) {
+            Request request;
+            long waitingSince;
+            synchronized (this) {
+                request = requests.poll();
+                if (request == null) {
+                    running = false;
+                    return;
+                }
+                waitingSince = enqueuedAt[head];
+                head = (head + 1) % capacity;
+                queued.decrement();
+            }
+
+            long start = waitTime.recordSince(waitingSince);
+            RequestRunEvent event = new RequestRunEvent();
+            event.begin();
+            try {
+                request.run();
+            } catch (Exception | Error e) {
+                failedRequests.increment();
+                event.failed = true;
+                System.out.println("Something went wrong! " + e.getMessage());
+            }
+            runTime.recordSince(start);
+            if (event.shouldCommit()) {
+                event.request = request.getClass().getName();
+                event.waited = start - waitingSince;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Records what happened to an offered request as a Flight Recorder event.
+     * @param request The request.
+     * @param result What happened to it: enqueued, coalesced or rejected.
+     */
+    private void recordOffer(Request request, String result) {
+        RequestEnqueueEvent event = new RequestEnqueueEvent();
+        if (event.isEnabled()) {
+            event.request = request.getClass().getName();
+            event.result = result;
+            event.depth = requests.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * @param key A coalesce key.
+     * @return Whether a waiting request has the given coalesce key.
+     */
+    private boolean isQueued(Object key) {
+        if (key == null) {
+            return false;
+        }
+        for (Request request : requests) {
+            if (Objects.equals(key, request.getCoalesceKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of requests waiting to be run.
+     */
+    public synchronized int size() {
+        return requests.size();
+    }
+
+    /**
+     * @return The number of requests that have been enqueued.
+     */
+    public long getEnqueued() {
+        return enqueued.sum();
+    }
+
+    /**
+     * @return The number of requests that have been merged into a queued one.
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return The number of requests that have been rejected.
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -6,60 +6,50 @@
 
 package personal.opensrcerer.util;
 
-import personal.opensrcerer.actions.Request;
+import personal.opensrcerer.metrics.MetricsRegistry;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
  * This class executes every request that gets
- * sent to the queue. By using an ExecutorService it allows for independence from the GUI thread.
+ * sent to a Mailbox. By using an ExecutorService it allows for independence from the GUI thread.
  *
- * RequestDispatcher is actually built for more threads but is currently only using one thread.
+ * Every game has its own Mailbox that runs its requests one at a time, and different games run in parallel.
  */
 public final class RequestDispatcher {
 
     /**
-     * ExecutorService with a thread to manage one request at a time, and one for scheduling.
+     * The number of requests that a Mailbox can hold before it rejects new ones.
      */
-    private static final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+    private static final int MAILBOX_CAPACITY = 16;
 
     /**
-     * Queue accessible by the ExecutorService's single thread that manages requests.
+     * ScheduledExecutorService with a thread for scheduling.
      */
-    private static final LinkedBlockingQueue<Request> requests = new LinkedBlockingQueue<>(1);
+    private static final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
 
-    static {
-        // Spinning code that awaits requests to be put into the queue.
-        Runnable runRequests = () -> {
-            while (true) {
-                if (Thread.interrupted()) {
-                    System.out.println("Bye bye!");
-                    return;
-                }
-
-                try {
-                    Request request = requests.take();
-                    request.run();
-                } catch (Exception | Error e) {
-                    System.out.println("Something went wrong! " + e.getMessage());
-                }
-            }
-        };
+    /**
+     * ExecutorService with threads that run the requests of every Mailbox, made like Executors.newCachedThreadPool.
+     */
+    private static final ThreadPoolExecutor workers =
+            new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>());
 
-        // submits the request to the executor
-        executor.submit(runRequests);
+    static {
+        MetricsRegistry.gauge("dispatcher_scheduled_tasks", "Tasks waiting for their delay to pass.",
+                () -> executor.getQueue().size());
+        MetricsRegistry.gauge("dispatcher_active_workers", "Threads that are running the requests of a mailbox.",
+                workers::getActiveCount);
     }
 
     /**
-     * Adds the request to the requests array of active requests.
-     * Dumps the request if it is beyond the queue' capacity.
-     * @param request Request to be added.
+     * @return A new Mailbox for a game, that coalesces duplicate requests and rejects requests when full.
      */
-    public static void queueRequest(Request request) {
-        requests.offer(request);
+    public static Mailbox newMailbox() {
+        return new Mailbox(MAILBOX_CAPACITY, workers);
     }
 
     /**
@@ -67,8 +57,9 @@ public final class RequestDispatcher {
      * @param r Runnable to schedule.
      * @param delay Value of the delay.
      * @param unit The TimeUnit of the delay.
+     * @return A ScheduledFuture that can be used to cancel the Runnable.
      */
-    public static void schedule(Runnable r, long delay, TimeUnit unit) {
-        executor.schedule(r, delay, unit);
+    public static ScheduledFuture<?> schedule(Runnable r, long delay, TimeUnit unit) {
+        return executor.schedule(r, delay, unit);
     }
-}
\ No newline at end of file
+}